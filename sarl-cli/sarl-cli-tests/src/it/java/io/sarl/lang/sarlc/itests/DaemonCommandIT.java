@@ -0,0 +1,327 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2025 SARL.io, the Original Authors and Main Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sarl.lang.sarlc.itests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.PrintWriter;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.attribute.PosixFilePermission;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+
+import org.arakhne.afc.vmutil.FileSystem;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.xtext.diagnostics.Severity;
+import org.eclipse.xtext.validation.Issue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import io.bootique.log.BootLogger;
+import io.sarl.lang.compiler.batch.IssueMessageListener;
+import io.sarl.lang.compiler.batch.SarlBatchCompiler;
+import io.sarl.lang.sarlc.commands.DaemonCommand;
+import io.sarl.lang.sarlc.configs.DaemonConfig;
+import io.sarl.lang.sarlc.configs.SarlcConfig;
+import io.sarl.lang.sarlc.tools.PathDetector;
+
+/**
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ */
+@SuppressWarnings("all")
+@DisplayName("Run sarlc daemon")
+@Tag("sarlc")
+@Tag("run")
+public class DaemonCommandIT {
+
+	private File tmpDir;
+
+	private SarlBatchCompiler compiler;
+
+	private PathDetector pathDetector;
+
+	private List<IssueMessageListener> listeners;
+
+	private TestDaemonCommand command;
+
+	@BeforeEach
+	public void setUp() throws Exception {
+		this.tmpDir = FileSystem.createTempDirectory("sarlcdaemontest", null);
+		this.compiler = mock(SarlBatchCompiler.class);
+		this.pathDetector = mock(PathDetector.class);
+		this.listeners = new ArrayList<>();
+		when(this.compiler.getClassPath()).thenReturn(Collections.emptyList());
+		when(this.compiler.getModulePath()).thenReturn(Collections.emptyList());
+		when(this.compiler.getCurrentClassLoader()).thenReturn(getClass().getClassLoader());
+		doAnswer(it -> this.listeners.add(it.getArgument(0))).when(this.compiler).addIssueMessageListener(any());
+		final SarlcConfig config = new SarlcConfig();
+		final DaemonConfig daemonConfig = new DaemonConfig();
+		this.command = new TestDaemonCommand(this.compiler, config, daemonConfig, this.pathDetector);
+	}
+
+	@AfterEach
+	public void tearDown() throws Exception {
+		FileSystem.delete(this.tmpDir);
+	}
+
+	private static BufferedReader input(String... lines) {
+		return new BufferedReader(new StringReader(String.join("\n", lines) + "\n"));
+	}
+
+	private static List<String> lines(StringWriter output) {
+		return output.toString().lines().toList();
+	}
+
+	private void fireIssue(Severity severity, String message) {
+		final Issue issue = mock(Issue.class);
+		when(issue.getSeverity()).thenReturn(severity);
+		for (final IssueMessageListener listener : this.listeners) {
+			listener.onIssue(severity, issue, URI.createFileURI("test.sarl"), message);
+		}
+	}
+
+	@Test
+	@DisplayName("Compilation request")
+	public void compileRequest() throws Exception {
+		when(this.compiler.compile()).thenAnswer(it -> {
+			fireIssue(Severity.WARNING, "first\nwarning");
+			return Boolean.TRUE;
+		});
+		final StringWriter output = new StringWriter();
+		assertTrue(this.command.runServe(input("src1\tsrc2\t--directory=out\t--outputdir=bin"), new PrintWriter(output)));
+		assertEquals(List.of(
+				"WARNING\tfirst warning",
+				DaemonCommand.SUCCESS_REPLY + "\t0\t0\t1"), lines(output));
+		verify(this.compiler).addSourcePath("src1");
+		verify(this.compiler).addSourcePath("src2");
+		verify(this.pathDetector).setSarlOutputPath(new File("out"));
+		verify(this.pathDetector).setClassOutputPath(new File("bin"));
+	}
+
+	@Test
+	@DisplayName("Compilation request with class path, module path and Java version")
+	public void compileRequestPaths() throws Exception {
+		when(this.compiler.compile()).thenReturn(Boolean.TRUE);
+		final String classPath = String.join(File.pathSeparator, "a.jar", "b.jar");
+		final StringWriter output = new StringWriter();
+		assertTrue(this.command.runServe(input("src1\t--cp=" + classPath + "\t--modulepath=c.jar\t--java-source=17"),
+				new PrintWriter(output)));
+		assertEquals(List.of(DaemonCommand.SUCCESS_REPLY + "\t0\t0\t0"), lines(output));
+		verify(this.compiler).setClassPath(List.of(new File("a.jar"), new File("b.jar")));
+		verify(this.compiler).setModulePath(List.of(new File("c.jar")));
+		verify(this.compiler).setJavaSourceVersion("17");
+	}
+
+	@Test
+	@DisplayName("Compilation request without class path")
+	public void compileRequestWithoutPaths() throws Exception {
+		when(this.compiler.compile()).thenReturn(Boolean.TRUE);
+		final StringWriter output = new StringWriter();
+		assertTrue(this.command.runServe(input("src1"), new PrintWriter(output)));
+		verify(this.compiler, never()).setClassPath(any());
+		verify(this.compiler, never()).setModulePath(any());
+		verify(this.compiler, never()).setJavaSourceVersion(any());
+	}
+
+	@Test
+	@DisplayName("Failing compilation request")
+	public void compileRequestFailure() throws Exception {
+		when(this.compiler.compile()).thenAnswer(it -> {
+			fireIssue(Severity.ERROR, "an error");
+			return Boolean.FALSE;
+		});
+		final StringWriter output = new StringWriter();
+		assertTrue(this.command.runServe(input("src1"), new PrintWriter(output)));
+		assertEquals(List.of(
+				"ERROR\tan error",
+				DaemonCommand.FAILURE_REPLY + "\t0\t1\t0"), lines(output));
+	}
+
+	@Test
+	@DisplayName("Compilation request with exception")
+	public void compileRequestException() throws Exception {
+		when(this.compiler.compile()).thenThrow(new IllegalStateException("broken"));
+		final StringWriter output = new StringWriter();
+		assertTrue(this.command.runServe(input("src1"), new PrintWriter(output)));
+		assertEquals(List.of(
+				"ERROR\tbroken",
+				DaemonCommand.FAILURE_REPLY + "\t0\t0\t0"), lines(output));
+	}
+
+	@Test
+	@DisplayName("Request without source folder")
+	public void compileRequestWithoutSource() throws Exception {
+		final StringWriter output = new StringWriter();
+		assertTrue(this.command.runServe(input("--directory=out"), new PrintWriter(output)));
+		final List<String> lines = lines(output);
+		assertEquals(1, lines.size());
+		assertTrue(lines.get(0).startsWith(DaemonCommand.FAILURE_REPLY + "\t"), lines.get(0));
+		verify(this.compiler, never()).compile();
+	}
+
+	@Test
+	@DisplayName("Shutdown request")
+	public void shutdownRequest() throws Exception {
+		when(this.compiler.compile()).thenReturn(Boolean.TRUE);
+		final StringWriter output = new StringWriter();
+		assertFalse(this.command.runServe(input("", DaemonCommand.SHUTDOWN_REQUEST, "src1"), new PrintWriter(output)));
+		assertEquals(List.of(DaemonCommand.SUCCESS_REPLY), lines(output));
+		verify(this.compiler, never()).compile();
+	}
+
+	@Test
+	@DisplayName("Valid authentication token")
+	public void authenticateValid() throws Exception {
+		final String token = TestDaemonCommand.newToken();
+		final StringWriter output = new StringWriter();
+		assertTrue(this.command.runAuthenticate(input(token), new PrintWriter(output), token));
+		assertEquals("", output.toString());
+	}
+
+	@Test
+	@DisplayName("Invalid authentication token")
+	public void authenticateInvalid() throws Exception {
+		final String token = TestDaemonCommand.newToken();
+		assertNotEquals(token, TestDaemonCommand.newToken());
+		final StringWriter output = new StringWriter();
+		assertFalse(this.command.runAuthenticate(input(token + "x"), new PrintWriter(output), token));
+		assertTrue(output.toString().startsWith(DaemonCommand.FAILURE_REPLY + "\t"), output.toString());
+		output.getBuffer().setLength(0);
+		assertFalse(this.command.runAuthenticate(new BufferedReader(new StringReader("")), new PrintWriter(output), token));
+		assertTrue(output.toString().startsWith(DaemonCommand.FAILURE_REPLY + "\t"), output.toString());
+	}
+
+	@Test
+	@DisplayName("Token file readable by the user only")
+	public void tokenFile() throws Exception {
+		final File file = FileSystem.join(this.tmpDir, "sub", "daemon.token");
+		TestDaemonCommand.writeToken(file, "abc");
+		TestDaemonCommand.writeToken(file, "def");
+		assertEquals("def", Files.readString(file.toPath()));
+		if (FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) {
+			assertEquals(EnumSet.of(PosixFilePermission.OWNER_READ, PosixFilePermission.OWNER_WRITE),
+					Files.getPosixFilePermissions(file.toPath()));
+		}
+	}
+
+	@Test
+	@DisplayName("Library class loader rebuilt when a jar file changes")
+	public void libraryClassLoader() throws Exception {
+		final File jarFile = new File(this.tmpDir, "lib.jar");
+		Files.write(jarFile.toPath(), new byte[0]);
+		jarFile.setLastModified(10000);
+		when(this.compiler.getClassPath()).thenReturn(List.of(jarFile, this.tmpDir));
+
+		final ClassLoader loader1 = this.command.libraryClassLoader(this.compiler);
+		final ClassLoader loader2 = this.command.libraryClassLoader(this.compiler);
+		assertSame(loader1, loader2);
+
+		jarFile.setLastModified(20000);
+		final ClassLoader loader3 = this.command.libraryClassLoader(this.compiler);
+		assertNotSame(loader1, loader3);
+		assertSame(loader3, this.command.libraryClassLoader(this.compiler));
+	}
+
+	@Test
+	@DisplayName("Library class loader per class path and Java version")
+	public void libraryClassLoaderPerRequest() throws Exception {
+		final File jarFile1 = new File(this.tmpDir, "lib1.jar");
+		Files.write(jarFile1.toPath(), new byte[0]);
+		final File jarFile2 = new File(this.tmpDir, "lib2.jar");
+		Files.write(jarFile2.toPath(), new byte[0]);
+
+		when(this.compiler.getClassPath()).thenReturn(List.of(jarFile1));
+		final ClassLoader loader1 = this.command.libraryClassLoader(this.compiler);
+
+		when(this.compiler.getClassPath()).thenReturn(List.of(jarFile2));
+		final ClassLoader loader2 = this.command.libraryClassLoader(this.compiler);
+		assertNotSame(loader1, loader2);
+
+		when(this.compiler.getClassPath()).thenReturn(Collections.emptyList());
+		when(this.compiler.getModulePath()).thenReturn(List.of(jarFile1));
+		final ClassLoader loader3 = this.command.libraryClassLoader(this.compiler);
+		assertNotSame(loader1, loader3);
+
+		when(this.compiler.getClassPath()).thenReturn(List.of(jarFile1));
+		when(this.compiler.getModulePath()).thenReturn(Collections.emptyList());
+		when(this.compiler.getJavaSourceVersion()).thenReturn("21");
+		final ClassLoader loader4 = this.command.libraryClassLoader(this.compiler);
+		assertNotSame(loader1, loader4);
+
+		when(this.compiler.getJavaSourceVersion()).thenReturn(null);
+		assertSame(loader1, this.command.libraryClassLoader(this.compiler));
+	}
+
+	/** Daemon command that exposes its protected methods.
+	 */
+	private static class TestDaemonCommand extends DaemonCommand {
+
+		TestDaemonCommand(SarlBatchCompiler compiler, SarlcConfig config, DaemonConfig daemonConfig, PathDetector pathDetector) {
+			super(() -> compiler, () -> config, () -> daemonConfig, () -> pathDetector, mock(BootLogger.class));
+		}
+
+		boolean runServe(BufferedReader reader, PrintWriter writer) throws Exception {
+			return serve(reader, writer);
+		}
+
+		boolean runAuthenticate(BufferedReader reader, PrintWriter writer, String token) throws Exception {
+			return authenticate(reader, writer, token);
+		}
+
+		static String newToken() {
+			return createToken();
+		}
+
+		static void writeToken(File file, String token) throws Exception {
+			writeTokenFile(file, token);
+		}
+
+		ClassLoader libraryClassLoader(SarlBatchCompiler compiler) throws Exception {
+			return getLibraryClassLoader(compiler);
+		}
+
+	}
+
+}
@@ -24,6 +24,7 @@ package io.sarl.lang.sarlc;
 import io.sarl.apputils.bootiqueapp.BootiqueMain;
 import io.sarl.apputils.bootiqueapp.batchcompiler.BootiqueBatchCompilerMain;
 import io.sarl.lang.sarlc.modules.commands.CompilerCommandModuleProvider;
+import io.sarl.lang.sarlc.modules.commands.DaemonCommandModuleProvider;
 import io.sarl.lang.sarlc.modules.commands.ExtraLanguageListCommandModuleProvider;
 import io.sarl.lang.sarlc.modules.general.SarlcApplicationModuleProvider;
 
@@ -81,6 +82,7 @@ public final class Main {
 		return new BootiqueBatchCompilerMain(
 				new SarlcApplicationModuleProvider(),
 				new CompilerCommandModuleProvider(),
+				new DaemonCommandModuleProvider(),
 				new ExtraLanguageListCommandModuleProvider());
 	}
 
@@ -0,0 +1,479 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2025 SARL.io, the Original Authors and Main Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sarl.lang.sarlc.commands;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.MalformedURLException;
+import java.net.ServerSocket;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.xtext.diagnostics.Severity;
+
+import com.google.common.base.Strings;
+
+import io.bootique.cli.Cli;
+import io.bootique.command.CommandOutcome;
+import io.bootique.command.CommandWithMetadata;
+import io.bootique.di.BQInject;
+import io.bootique.log.BootLogger;
+import io.bootique.meta.application.CommandMetadata;
+import io.sarl.apputils.bootiqueapp.BootiqueMain;
+import io.sarl.apputils.bootiqueapp.utils.SystemPath;
+import io.sarl.lang.compiler.batch.SarlBatchCompiler;
+import io.sarl.lang.compiler.batch.SarlBatchCompilerUtils;
+import io.sarl.lang.sarlc.Constants;
+import io.sarl.lang.sarlc.configs.DaemonConfig;
+import io.sarl.lang.sarlc.configs.SarlcConfig;
+import io.sarl.lang.sarlc.tools.PathDetector;
+import jakarta.inject.Provider;
+
+/**
+ * Command for running sarlc as a daemon that keeps the SARL injector and the loaded libraries
+ * alive between compilation requests.
+ *
+ * <p>The daemon reads the requests from the standard input, or from the loopback interface
+ * when a port is configured. Each request is a line that contains tab-separated arguments:
+ * the SARL source folders, and optionally {@code --directory=path} and {@code --outputdir=path}
+ * for overriding the output folders of the sarlc configuration, {@code --cp=path} and
+ * {@code --modulepath=path} for overriding the class path and the module path, and
+ * {@code --java-source=version} for overriding the version of Java. The issue messages are replied
+ * as lines with the format {@code severity<TAB>message}, and the request is terminated by
+ * a line with the format {@code OK|FAILED<TAB>files<TAB>errors<TAB>warnings}.
+ * The request {@code shutdown} stops the daemon.
+ *
+ * <p>When the daemon is listening on a local port, it writes a random token into a file that
+ * is readable only by the current user. The first line of each connection must be this token;
+ * otherwise the connection is closed without running any request.
+ *
+ * <p>The jar files of the class path and module path are loaded by a class loader that is shared
+ * by the compilation requests with the same class path, module path and version of Java.
+ * This class loader is rebuilt when one of these jar files has changed. Only the most recently used
+ * class loaders are kept, in order to bound the number of opened jar files.
+ * The folders of the class path are always loaded by the class loader that is specific to
+ * each compilation request.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.15
+ */
+public class DaemonCommand extends CommandWithMetadata {
+
+	/** Name of the option for launching the daemon.
+	 */
+	public static final String DAEMON_OPTION_NAME = "daemon"; //$NON-NLS-1$
+
+	/** Name of the option for specifying the port of the daemon.
+	 */
+	public static final String PORT_OPTION_NAME = "daemon-port"; //$NON-NLS-1$
+
+	/** Name of the option for specifying the file of the authentication token of the daemon.
+	 */
+	public static final String TOKEN_FILE_OPTION_NAME = "daemon-token-file"; //$NON-NLS-1$
+
+	/** Request for stopping the daemon.
+	 */
+	public static final String SHUTDOWN_REQUEST = "shutdown"; //$NON-NLS-1$
+
+	/** Reply for a successful request.
+	 */
+	public static final String SUCCESS_REPLY = "OK"; //$NON-NLS-1$
+
+	/** Reply for a failing request.
+	 */
+	public static final String FAILURE_REPLY = "FAILED"; //$NON-NLS-1$
+
+	private static final String SEPARATOR = "\t"; //$NON-NLS-1$
+
+	private static final int TOKEN_SIZE = 32;
+
+	private static final String SARL_OUTPUT_ARGUMENT = "--" + Constants.SARL_OUTPUT_DIRECTORY_OPTION + "="; //$NON-NLS-1$ //$NON-NLS-2$
+
+	private static final String CLASS_OUTPUT_ARGUMENT = "--" + Constants.JAVA_OUTPUT_DIRECTORY_OPTION + "="; //$NON-NLS-1$ //$NON-NLS-2$
+
+	private static final String CLASSPATH_ARGUMENT = "--cp="; //$NON-NLS-1$
+
+	private static final String LONG_CLASSPATH_ARGUMENT = "--classpath="; //$NON-NLS-1$
+
+	private static final String MODULEPATH_ARGUMENT = "--modulepath="; //$NON-NLS-1$
+
+	private static final String JAVA_VERSION_ARGUMENT = "--java-source="; //$NON-NLS-1$
+
+	private static final int MAX_LIBRARY_CLASS_LOADERS = 8;
+
+	private final Provider<SarlBatchCompiler> compiler;
+
+	private final Provider<SarlcConfig> configuration;
+
+	private final Provider<DaemonConfig> daemonConfig;
+
+	private final Provider<PathDetector> pathDetector;
+
+	private final BootLogger bootLogger;
+
+	private final Map<String, LibraryClassLoader> libraryClassLoaders = new LinkedHashMap<>(MAX_LIBRARY_CLASS_LOADERS, 0.75f, true);
+
+	/** Constructor.
+	 *
+	 * @param compiler the factory of SARL batch compilers. It must reply a new compiler for each call.
+	 * @param configuration the configuration of the tool.
+	 * @param daemonConfig the configuration of the daemon.
+	 * @param pathDetector the detector of path.
+	 * @param bootLogger the logger for the messages of the daemon.
+	 */
+	@SuppressWarnings("removal")
+	@BQInject
+	public DaemonCommand(Provider<SarlBatchCompiler> compiler, Provider<SarlcConfig> configuration,
+			Provider<DaemonConfig> daemonConfig, Provider<PathDetector> pathDetector, BootLogger bootLogger) {
+		super(CommandMetadata
+				.builder(DaemonCommand.class)
+				.description(Messages.DaemonCommand_0)
+				.name(DAEMON_OPTION_NAME));
+		this.compiler = compiler;
+		this.configuration = configuration;
+		this.daemonConfig = daemonConfig;
+		this.pathDetector = pathDetector;
+		this.bootLogger = bootLogger;
+	}
+
+	@Override
+	public CommandOutcome run(Cli cli) {
+		final var daemonConfiguration = this.daemonConfig.get();
+		final var port = daemonConfiguration.getPort();
+		try {
+			if (port > 0) {
+				runServer(port, daemonConfiguration.getTokenFile());
+			} else {
+				this.bootLogger.stderr(Messages.DaemonCommand_2);
+				final var reader = new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+				final var writer = new PrintWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8));
+				serve(reader, writer);
+			}
+		} catch (IOException exception) {
+			return CommandOutcome.failed(BootiqueMain.ERROR_CODE, exception);
+		} finally {
+			closeLibraryClassLoaders();
+		}
+		return CommandOutcome.succeeded();
+	}
+
+	private void runServer(int port, File tokenFile) throws IOException {
+		final var token = createToken();
+		try (var server = new ServerSocket(port, 0, InetAddress.getLoopbackAddress())) {
+			writeTokenFile(tokenFile, token);
+			this.bootLogger.stderr(MessageFormat.format(Messages.DaemonCommand_3, tokenFile));
+			this.bootLogger.stderr(MessageFormat.format(Messages.DaemonCommand_1, server.getLocalSocketAddress()));
+			var running = true;
+			while (running) {
+				try (var socket = server.accept();
+						var reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+						var writer = new PrintWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8))) {
+					if (authenticate(reader, writer, token)) {
+						running = serve(reader, writer);
+					}
+				}
+			}
+		} finally {
+			Files.deleteIfExists(tokenFile.toPath());
+		}
+	}
+
+	/** Create a random token for authenticating the clients of the daemon.
+	 *
+	 * @return the token.
+	 */
+	protected static String createToken() {
+		final var bytes = new byte[TOKEN_SIZE];
+		new SecureRandom().nextBytes(bytes);
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+	}
+
+	/** Write the authentication token into the given file. The file is readable and writable
+	 * only by the current user. Any existing file is replaced.
+	 *
+	 * @param file the file to write.
+	 * @param token the token to write.
+	 * @throws IOException if the file cannot be written.
+	 */
+	protected static void writeTokenFile(File file, String token) throws IOException {
+		final var path = file.toPath().toAbsolutePath();
+		Files.createDirectories(path.getParent());
+		Files.deleteIfExists(path);
+		if (FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) { //$NON-NLS-1$
+			Files.createFile(path, PosixFilePermissions.asFileAttribute(
+					EnumSet.of(PosixFilePermission.OWNER_READ, PosixFilePermission.OWNER_WRITE)));
+		} else {
+			Files.createFile(path);
+			final var ioFile = path.toFile();
+			ioFile.setReadable(false, false);
+			ioFile.setWritable(false, false);
+			ioFile.setReadable(true, true);
+			ioFile.setWritable(true, true);
+		}
+		Files.writeString(path, token, StandardCharsets.UTF_8);
+	}
+
+	/** Read the authentication token from the first line of a connection.
+	 *
+	 * @param reader the reader of the requests.
+	 * @param writer the writer of the replies.
+	 * @param token the expected token.
+	 * @return {@code true} if the client has provided the expected token.
+	 * @throws IOException if the token cannot be read.
+	 */
+	protected boolean authenticate(BufferedReader reader, PrintWriter writer, String token) throws IOException {
+		final var line = reader.readLine();
+		if (line != null && MessageDigest.isEqual(
+				token.getBytes(StandardCharsets.UTF_8), line.strip().getBytes(StandardCharsets.UTF_8))) {
+			return true;
+		}
+		this.bootLogger.stderr(Messages.DaemonCommand_4);
+		reply(writer, FAILURE_REPLY, Messages.DaemonCommand_4);
+		writer.flush();
+		return false;
+	}
+
+	/** Read and run the compilation requests until the end of the input stream or a shutdown request.
+	 *
+	 * @param reader the reader of the requests.
+	 * @param writer the writer of the replies.
+	 * @return {@code false} if the daemon must be stopped.
+	 * @throws IOException if the requests cannot be read.
+	 */
+	protected boolean serve(BufferedReader reader, PrintWriter writer) throws IOException {
+		String line;
+		while ((line = reader.readLine()) != null) {
+			final var request = line.strip();
+			if (!request.isEmpty()) {
+				if (SHUTDOWN_REQUEST.equals(request)) {
+					writer.println(SUCCESS_REPLY);
+					writer.flush();
+					return false;
+				}
+				compile(request, writer);
+				writer.flush();
+			}
+		}
+		return true;
+	}
+
+	/** Run the compilation that is described by the given request.
+	 *
+	 * @param request the tab-separated arguments of the compilation.
+	 * @param writer the writer of the replies.
+	 */
+	protected void compile(String request, PrintWriter writer) {
+		File sarlOutputPath = null;
+		File classOutputPath = null;
+		String classPath = null;
+		String modulePath = null;
+		String javaVersion = null;
+		final var sourcePaths = new ArrayList<String>();
+		for (final var argument : request.split(SEPARATOR)) {
+			final var arg = argument.strip();
+			if (arg.startsWith(SARL_OUTPUT_ARGUMENT)) {
+				sarlOutputPath = new File(arg.substring(SARL_OUTPUT_ARGUMENT.length()));
+			} else if (arg.startsWith(CLASS_OUTPUT_ARGUMENT)) {
+				classOutputPath = new File(arg.substring(CLASS_OUTPUT_ARGUMENT.length()));
+			} else if (arg.startsWith(CLASSPATH_ARGUMENT)) {
+				classPath = arg.substring(CLASSPATH_ARGUMENT.length());
+			} else if (arg.startsWith(LONG_CLASSPATH_ARGUMENT)) {
+				classPath = arg.substring(LONG_CLASSPATH_ARGUMENT.length());
+			} else if (arg.startsWith(MODULEPATH_ARGUMENT)) {
+				modulePath = arg.substring(MODULEPATH_ARGUMENT.length());
+			} else if (arg.startsWith(JAVA_VERSION_ARGUMENT)) {
+				javaVersion = arg.substring(JAVA_VERSION_ARGUMENT.length());
+			} else if (!arg.isEmpty()) {
+				sourcePaths.add(arg);
+			}
+		}
+		if (sourcePaths.isEmpty()) {
+			reply(writer, FAILURE_REPLY, Messages.CompilerCommand_1);
+			return;
+		}
+
+		final var config = this.configuration.get();
+		final var paths = this.pathDetector.get();
+		paths.setSarlOutputPath(sarlOutputPath != null ? sarlOutputPath : config.getOutputPath());
+		paths.setClassOutputPath(classOutputPath != null ? classOutputPath : config.getClassOutputPath());
+		paths.setTempDirectory(config.getTempDirectory());
+
+		final var nbErrors = new AtomicInteger(0);
+		final var nbWarnings = new AtomicInteger(0);
+		final var nbFiles = new AtomicInteger(0);
+		boolean success;
+		try {
+			paths.resolve(sourcePaths);
+
+			final var comp = this.compiler.get();
+			comp.setOutputPath(paths.getSarlOutputPath());
+			comp.setClassOutputPath(paths.getClassOutputPath());
+			comp.setTempDirectory(paths.getTempDirectory());
+			for (final var sourcePath : sourcePaths) {
+				comp.addSourcePath(sourcePath);
+			}
+			if (classPath != null) {
+				comp.setClassPath(toFileList(classPath));
+			}
+			if (modulePath != null) {
+				comp.setModulePath(toFileList(modulePath));
+			}
+			if (!Strings.isNullOrEmpty(javaVersion)) {
+				comp.setJavaSourceVersion(SarlBatchCompilerUtils.parseJavaVersion(javaVersion).getQualifier());
+			}
+
+			final var extraGenerators = config.getExtraGenerators();
+			if (!Strings.isNullOrEmpty(extraGenerators)) {
+				comp.setExtraLanguageGenerators(extraGenerators);
+			}
+
+			comp.setCurrentClassLoader(getLibraryClassLoader(comp));
+
+			comp.addIssueMessageListener((severity, issue, uri, message) -> {
+				if (issue.isSyntaxError() || severity == Severity.ERROR) {
+					nbErrors.incrementAndGet();
+				} else if (issue.getSeverity() == Severity.WARNING) {
+					nbWarnings.incrementAndGet();
+				}
+				reply(writer, severity.name(), Strings.nullToEmpty(message).replaceAll("\\R", " ")); //$NON-NLS-1$ //$NON-NLS-2$
+			});
+			comp.addCompiledResourceReceiver(it -> nbFiles.incrementAndGet());
+
+			success = comp.compile();
+		} catch (Exception exception) {
+			reply(writer, Severity.ERROR.name(), Strings.nullToEmpty(exception.getLocalizedMessage()));
+			success = false;
+		}
+		reply(writer, success ? SUCCESS_REPLY : FAILURE_REPLY,
+				Integer.toString(nbFiles.get()), Integer.toString(nbErrors.get()), Integer.toString(nbWarnings.get()));
+	}
+
+	private static void reply(PrintWriter writer, String... elements) {
+		writer.println(String.join(SEPARATOR, elements));
+	}
+
+	private static List<File> toFileList(String path) {
+		final var systemPath = new SystemPath();
+		systemPath.addEntries(path);
+		return systemPath.toFileList();
+	}
+
+	/** Replies the class loader for the jar files that are on the class path and module path of the given compiler.
+	 * The class loader is shared by the successive compilation requests with the same class path, module path
+	 * and version of Java, until one of the jar files is changed.
+	 *
+	 * @param compiler the compiler to be run.
+	 * @return the class loader.
+	 * @throws MalformedURLException if a jar file cannot be converted to URL.
+	 */
+	@SuppressWarnings("resource")
+	protected ClassLoader getLibraryClassLoader(SarlBatchCompiler compiler) throws MalformedURLException {
+		final var key = new StringBuilder(Strings.nullToEmpty(compiler.getJavaSourceVersion()));
+		final var stamps = new LinkedHashMap<File, Long>();
+		for (final var path : List.of(compiler.getClassPath(), compiler.getModulePath())) {
+			key.append('\n');
+			for (final var file : path) {
+				key.append(file.getAbsolutePath()).append(File.pathSeparatorChar);
+				if (file.isFile()) {
+					stamps.put(file, Long.valueOf(file.lastModified()));
+				}
+			}
+		}
+		final var libraryKey = key.toString();
+		var library = this.libraryClassLoaders.get(libraryKey);
+		if (library != null && !stamps.equals(library.stamps())) {
+			this.libraryClassLoaders.remove(libraryKey);
+			closeLibraryClassLoader(library);
+			library = null;
+		}
+		if (library == null) {
+			final var urls = new ArrayList<URL>(stamps.size());
+			for (final var file : stamps.keySet()) {
+				urls.add(file.toURI().toURL());
+			}
+			library = new LibraryClassLoader(
+					new URLClassLoader(urls.toArray(new URL[urls.size()]), compiler.getCurrentClassLoader()),
+					stamps);
+			this.libraryClassLoaders.put(libraryKey, library);
+			final var iterator = this.libraryClassLoaders.values().iterator();
+			while (this.libraryClassLoaders.size() > MAX_LIBRARY_CLASS_LOADERS) {
+				final var eldest = iterator.next();
+				iterator.remove();
+				closeLibraryClassLoader(eldest);
+			}
+		}
+		return library.classLoader();
+	}
+
+	private void closeLibraryClassLoaders() {
+		for (final var library : this.libraryClassLoaders.values()) {
+			closeLibraryClassLoader(library);
+		}
+		this.libraryClassLoaders.clear();
+	}
+
+	private void closeLibraryClassLoader(LibraryClassLoader library) {
+		try {
+			library.classLoader().close();
+		} catch (IOException exception) {
+			this.bootLogger.stderr(exception.getLocalizedMessage());
+		}
+	}
+
+	/** Class loader of the jar files, with the modification dates of these jar files.
+	 *
+	 * @param classLoader the class loader.
+	 * @param stamps the modification dates of the jar files.
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 0.15
+	 */
+	private record LibraryClassLoader(URLClassLoader classLoader, Map<File, Long> stamps) {
+		//
+	}
+
+}
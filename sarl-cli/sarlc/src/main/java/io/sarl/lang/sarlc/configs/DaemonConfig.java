@@ -0,0 +1,122 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2025 SARL.io, the Original Authors and Main Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sarl.lang.sarlc.configs;
+
+import java.io.File;
+
+import io.bootique.annotation.BQConfig;
+import io.bootique.annotation.BQConfigProperty;
+import io.bootique.config.ConfigurationFactory;
+
+/**
+ * Configuration for the daemon command.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.15
+ */
+@BQConfig("Configuration of the SARLC daemon")
+public class DaemonConfig {
+
+	/**
+	 * Prefix for the configuration entries of the daemon command.
+	 */
+	public static final String PREFIX = "daemon"; //$NON-NLS-1$
+
+	/**
+	 * Name of the property that contains the port number on which the daemon is listening.
+	 */
+	public static final String PORT = PREFIX + ".port"; //$NON-NLS-1$
+
+	/**
+	 * Default port number. The value {@code 0} means that the compilation requests are read
+	 * from the standard input.
+	 */
+	public static final int DEFAULT_PORT = 0;
+
+	/**
+	 * Name of the property that contains the file in which the authentication token of the daemon is written.
+	 */
+	public static final String TOKEN_FILE = PREFIX + ".tokenFile"; //$NON-NLS-1$
+
+	/**
+	 * Default basename of the file in which the authentication token of the daemon is written.
+	 * This file is located into the home directory of the user.
+	 */
+	public static final String DEFAULT_TOKEN_FILE_BASENAME = ".sarlc-daemon.token"; //$NON-NLS-1$
+
+	private int port = DEFAULT_PORT;
+
+	private File tokenFile;
+
+	/** Replies the configuration factory for the daemon.
+	 *
+	 * @param configFactory the general configuration factory.
+	 * @return the daemon configuration factory.
+	 */
+	public static DaemonConfig getConfiguration(ConfigurationFactory configFactory) {
+		assert configFactory != null;
+		return configFactory.config(DaemonConfig.class, PREFIX);
+	}
+
+	/** Replies the port number on which the daemon is listening on the loopback interface.
+	 *
+	 * @return the port number, or {@code 0} if the requests are read from the standard input.
+	 */
+	public int getPort() {
+		return this.port;
+	}
+
+	/** Set the port number on which the daemon is listening on the loopback interface.
+	 *
+	 * @param port the port number. A negative or zero value means that the requests are read from the standard input.
+	 */
+	@BQConfigProperty("Specify the local port on which the daemon is listening. Default is 0 for reading the requests from the standard input.")
+	public void setPort(int port) {
+		this.port = port < 0 ? DEFAULT_PORT : port;
+	}
+
+	/** Replies the file in which the daemon writes the token that must be provided by the clients
+	 * at the beginning of each connection to the daemon's port.
+	 *
+	 * @return the file of the token.
+	 */
+	public File getTokenFile() {
+		if (this.tokenFile == null) {
+			return new File(System.getProperty("user.home"), DEFAULT_TOKEN_FILE_BASENAME); //$NON-NLS-1$
+		}
+		return this.tokenFile;
+	}
+
+	/** Set the file in which the daemon writes the token that must be provided by the clients
+	 * at the beginning of each connection to the daemon's port.
+	 *
+	 * @param file the file of the token. If it is {@code null}, the default file in the user home directory is used.
+	 */
+	@BQConfigProperty("Specify the file in which the daemon writes the token that authenticates the clients on the local port.")
+	public void setTokenFile(File file) {
+		this.tokenFile = file;
+	}
+
+}
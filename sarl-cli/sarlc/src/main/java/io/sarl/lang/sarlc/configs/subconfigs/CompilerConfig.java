@@ -21,6 +21,7 @@
 
 package io.sarl.lang.sarlc.configs.subconfigs;
 
+import java.io.File;
 import java.nio.charset.Charset;
 
 import io.bootique.annotation.BQConfig;
@@ -115,6 +116,27 @@ public class CompilerConfig {
 	 */
 	public static final String COMPRESS_INLINE_EXPRESSIONS_NAME = PREFIX + ".compressInlineExpressions"; //$NON-NLS-1$
 
+	/**
+	 * Name of the property that indicates if the incremental compilation is enabled.
+	 *
+	 * @since 0.15
+	 */
+	public static final String INCREMENTAL_NAME = PREFIX + ".incremental"; //$NON-NLS-1$
+
+	/**
+	 * Name of the property that contains the file in which the incremental compilation index is stored.
+	 *
+	 * @since 0.15
+	 */
+	public static final String BUILD_INDEX_FILE_NAME = PREFIX + ".buildIndexFile"; //$NON-NLS-1$
+
+	/**
+	 * Name of the property that indicates if the Java stubs are compiled in memory.
+	 *
+	 * @since 0.15
+	 */
+	public static final String IN_MEMORY_STUBS_NAME = PREFIX + ".inMemoryStubs"; //$NON-NLS-1$
+
 	private String fileEncoding;
 
 	private String javaVersion = SARLVersion.MINIMAL_JDK_VERSION_IN_SARL_PROJECT_CLASSPATH;
@@ -141,6 +163,69 @@ public class CompilerConfig {
 
 	private boolean compressInlineExpressions = GeneratorConfig2.DEFAULT_USE_EXPRESSION_INTERPRETER_FOR_INLINE_ANNOTATION;
 
+	private boolean incremental;
+
+	private File buildIndexFile;
+
+	private boolean inMemoryStubs;
+
+	/** Replies if the Java stubs are compiled in memory instead of into temporary folders.
+	 *
+	 * @return {@code true} if the stubs are compiled in memory.
+	 * @since 0.15
+	 */
+	public boolean getInMemoryStubs() {
+		return this.inMemoryStubs;
+	}
+
+	/** Change the flag that indicates if the Java stubs are compiled in memory instead of into temporary folders.
+	 *
+	 * @param enable {@code true} if the stubs are compiled in memory.
+	 * @since 0.15
+	 */
+	@BQConfigProperty("Enable or disable the compilation of the Java stubs in memory")
+	public void setInMemoryStubs(boolean enable) {
+		this.inMemoryStubs = enable;
+	}
+
+	/** Replies if the incremental compilation is enabled.
+	 *
+	 * @return {@code true} if only the changed files and their dependents are compiled.
+	 * @since 0.15
+	 */
+	public boolean getIncremental() {
+		return this.incremental;
+	}
+
+	/** Change the flag that indicates if the incremental compilation is enabled.
+	 *
+	 * @param enable {@code true} if only the changed files and their dependents are compiled.
+	 * @since 0.15
+	 */
+	@BQConfigProperty("Enable or disable the incremental compilation")
+	public void setIncremental(boolean enable) {
+		this.incremental = enable;
+	}
+
+	/** Replies the file in which the incremental compilation index is stored.
+	 *
+	 * @return the file, or {@code null} for using the default file into the output folder.
+	 * @since 0.15
+	 */
+	public File getBuildIndexFile() {
+		return this.buildIndexFile;
+	}
+
+	/** Change the file in which the incremental compilation index is stored.
+	 *
+	 * @param file the file, or {@code null} for using the default file into the output folder.
+	 * @since 0.15
+	 */
+	@BQConfigProperty("File in which the incremental compilation index is stored")
+	public void setBuildIndexFile(File file) {
+		this.buildIndexFile = file;
+	}
+
 	/** Replies if the inline expressions should be compressed on the fly.
 	 *
 	 * @return {@code true} if the expressions are compressed.
@@ -0,0 +1,125 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2025 SARL.io, the Original Authors and Main Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sarl.lang.sarlc.modules.commands;
+
+import static io.bootique.BQCoreModule.extend;
+import static io.sarl.apputils.bootiqueapp.batchcompiler.lang.SARLRuntimeModule.SARL_INJECTOR_NAME;
+
+import java.text.MessageFormat;
+import java.util.logging.Logger;
+
+import io.bootique.BQModule;
+import io.bootique.config.ConfigurationFactory;
+import io.bootique.di.Binder;
+import io.bootique.di.Injector;
+import io.bootique.di.Provides;
+import io.bootique.log.BootLogger;
+import io.bootique.meta.application.OptionMetadata;
+import io.sarl.lang.compiler.batch.IJavaBatchCompiler;
+import io.sarl.lang.compiler.batch.IssueMessageFormatter;
+import io.sarl.lang.sarlc.commands.DaemonCommand;
+import io.sarl.lang.sarlc.configs.DaemonConfig;
+import io.sarl.lang.sarlc.configs.SarlcConfig;
+import io.sarl.lang.sarlc.modules.general.SarlBatchCompilerModule;
+import io.sarl.lang.sarlc.tools.PathDetector;
+import io.sarl.lang.sarlc.tools.SARLClasspathProvider;
+import jakarta.inject.Named;
+import jakarta.inject.Provider;
+import jakarta.inject.Singleton;
+
+/** Module for the daemon command.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.15
+ */
+public class DaemonCommandModule implements BQModule {
+
+	@Override
+	public void configure(Binder binder) {
+		extend(binder)
+		.addOption(OptionMetadata.builder(
+				DaemonCommand.PORT_OPTION_NAME, MessageFormat.format(Messages.DaemonCommandModule_0, Integer.valueOf(DaemonConfig.DEFAULT_PORT)))
+				.valueRequired(Messages.DaemonCommandModule_1)
+				.build())
+		.mapConfigPath(DaemonCommand.PORT_OPTION_NAME, DaemonConfig.PORT)
+		.addOption(OptionMetadata.builder(
+				DaemonCommand.TOKEN_FILE_OPTION_NAME, MessageFormat.format(Messages.DaemonCommandModule_2, DaemonConfig.DEFAULT_TOKEN_FILE_BASENAME))
+				.valueRequired(Messages.DaemonCommandModule_3)
+				.build())
+		.mapConfigPath(DaemonCommand.TOKEN_FILE_OPTION_NAME, DaemonConfig.TOKEN_FILE);
+		extend(binder).addCommand(DaemonCommand.class);
+	}
+
+	/** Provide the command for running the compiler as a daemon.
+	 *
+	 * <p>The daemon receives a factory of SARL batch compilers that replies a new compiler
+	 * for each compilation request, all sharing the same SARL injector.
+	 *
+	 * @param configuration the provider of the general sarlc configuration.
+	 * @param daemonConfig the provider of the daemon configuration.
+	 * @param defaultClasspath the SARL boot class path that must be used by default.
+	 * @param guiceInjector the injector used for the SARL compiler.
+	 * @param logger the logger.
+	 * @param formatterProvider the provider of message formatter.
+	 * @param javaCompilerProvider the provider of the Java compiler.
+	 * @param pathDetector the provider of the path detector that is used by sarlc tool.
+	 * @param bootLogger the logger for the messages of the daemon.
+	 * @return the command.
+	 */
+	@SuppressWarnings("static-method")
+	@Provides
+	@Singleton
+	public DaemonCommand provideDaemonCommand(
+			Provider<SarlcConfig> configuration,
+			Provider<DaemonConfig> daemonConfig,
+			Provider<SARLClasspathProvider> defaultClasspath,
+			@Named(SARL_INJECTOR_NAME) com.google.inject.Injector guiceInjector,
+			Provider<Logger> logger,
+			Provider<IssueMessageFormatter> formatterProvider,
+			Provider<IJavaBatchCompiler> javaCompilerProvider,
+			Provider<PathDetector> pathDetector,
+			BootLogger bootLogger) {
+		return new DaemonCommand(
+				() -> SarlBatchCompilerModule.newSarlBatchCompiler(configuration.get(), defaultClasspath.get(),
+						guiceInjector, logger.get(), formatterProvider.get(), javaCompilerProvider.get()),
+				configuration, daemonConfig, pathDetector, bootLogger);
+	}
+
+	/** Replies the instance of the daemon configuration.
+	 *
+	 * @param configFactory accessor to the bootique factory.
+	 * @param injector the current injector.
+	 * @return the daemon configuration accessor.
+	 */
+	@SuppressWarnings("static-method")
+	@Provides
+	@Singleton
+	public DaemonConfig provideDaemonConfig(ConfigurationFactory configFactory, Injector injector) {
+		final var config = DaemonConfig.getConfiguration(configFactory);
+		injector.injectMembers(config);
+		return config;
+	}
+
+}
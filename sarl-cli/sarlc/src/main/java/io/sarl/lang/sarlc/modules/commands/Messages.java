@@ -37,6 +37,11 @@ public class Messages extends NLS {
 	public static String CompilerCommandModuleProvider_0;
 	public static String CompilerCommandModule_0;
 	public static String CompilerCommandModule_1;
+	public static String DaemonCommandModuleProvider_0;
+	public static String DaemonCommandModule_0;
+	public static String DaemonCommandModule_1;
+	public static String DaemonCommandModule_2;
+	public static String DaemonCommandModule_3;
 	public static String ExtraLanguageListCommandModuleProvider_0;
 	static {
 		// initialize resource bundle
@@ -22,6 +22,7 @@
 package io.sarl.lang.sarlc.modules.configs;
 
 import static io.bootique.BQCoreModule.extend;
+import static io.sarl.lang.sarlc.configs.subconfigs.CompilerConfig.BUILD_INDEX_FILE_NAME;
 import static io.sarl.lang.sarlc.configs.subconfigs.CompilerConfig.COMPRESS_INLINE_EXPRESSIONS_NAME;
 import static io.sarl.lang.sarlc.configs.subconfigs.CompilerConfig.FILE_ENCODING_NAME;
 import static io.sarl.lang.sarlc.configs.subconfigs.CompilerConfig.GENERATE_CLONE_NAME;
@@ -30,6 +31,8 @@ import static io.sarl.lang.sarlc.configs.subconfigs.CompilerConfig.GENERATE_INLI
 import static io.sarl.lang.sarlc.configs.subconfigs.CompilerConfig.GENERATE_PURES_NAME;
 import static io.sarl.lang.sarlc.configs.subconfigs.CompilerConfig.GENERATE_SERIAL_IDS_NAME;
 import static io.sarl.lang.sarlc.configs.subconfigs.CompilerConfig.GENERATE_TOSTRING_NAME;
+import static io.sarl.lang.sarlc.configs.subconfigs.CompilerConfig.INCREMENTAL_NAME;
+import static io.sarl.lang.sarlc.configs.subconfigs.CompilerConfig.IN_MEMORY_STUBS_NAME;
 import static io.sarl.lang.sarlc.configs.subconfigs.CompilerConfig.JAVA_COMPILER_NAME;
 import static io.sarl.lang.sarlc.configs.subconfigs.CompilerConfig.JAVA_VERSION_NAME;
 import static io.sarl.lang.sarlc.configs.subconfigs.CompilerConfig.OUTPUT_STORAGES_NAME;
@@ -79,6 +82,10 @@ public class CompilerConfigModule implements BQModule {
 
 	private static final String GENERATESERIALS_OPTION = "generate-serials"; //$NON-NLS-1$
 
+	private static final String INCREMENTAL_OPTION = "incremental"; //$NON-NLS-1$
+
+	private static final String INMEMORYSTUBS_OPTION = "in-memory-stubs"; //$NON-NLS-1$
+
 	@Override
 	public void configure(Binder binder) {
 		VariableDecls.extend(binder).declareVar(FILE_ENCODING_NAME);
@@ -189,6 +196,24 @@ public class CompilerConfigModule implements BQModule {
 				.valueOptionalWithDefault(trueFalseValues, Boolean.toString(GeneratorConfig2.DEFAULT_GENERATE_SERIAL_NUMBER_FIELD))
 				.build())
 			.mapConfigPath(GENERATESERIALS_OPTION, GENERATE_SERIAL_IDS_NAME);
+
+		VariableDecls.extend(binder).declareVar(INCREMENTAL_NAME);
+		extend(binder).addOption(OptionMetadata.builder(
+				INCREMENTAL_OPTION,
+				MessageFormat.format(Messages.CompilerConfigModule_14, Boolean.FALSE))
+				.valueOptionalWithDefault(trueFalseValues, Boolean.TRUE.toString())
+				.build())
+			.mapConfigPath(INCREMENTAL_OPTION, INCREMENTAL_NAME);
+
+		VariableDecls.extend(binder).declareVar(BUILD_INDEX_FILE_NAME);
+
+		VariableDecls.extend(binder).declareVar(IN_MEMORY_STUBS_NAME);
+		extend(binder).addOption(OptionMetadata.builder(
+				INMEMORYSTUBS_OPTION,
+				MessageFormat.format(Messages.CompilerConfigModule_15, Boolean.FALSE))
+				.valueOptionalWithDefault(trueFalseValues, Boolean.TRUE.toString())
+				.build())
+			.mapConfigPath(INMEMORYSTUBS_OPTION, IN_MEMORY_STUBS_NAME);
 	}
 
 }
@@ -59,6 +59,8 @@ public class Messages extends NLS {
 	public static String CompilerConfigModule_11;
 	public static String CompilerConfigModule_12;
 	public static String CompilerConfigModule_13;
+	public static String CompilerConfigModule_14;
+	public static String CompilerConfigModule_15;
 	public static String CompilerConfigModuleProvider_0;
 	public static String ValidatorConfigModule_0;
 	public static String ValidatorConfigModule_1;
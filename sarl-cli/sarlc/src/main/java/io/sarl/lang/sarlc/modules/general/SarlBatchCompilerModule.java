@@ -113,7 +113,32 @@ public class SarlBatchCompilerModule implements BQModule {
 			Provider<Logger> logger,
 			Provider<IssueMessageFormatter> formatterProvider,
 			Provider<IJavaBatchCompiler> javaCompilerProvider) {
-		final var cfg = config.get();
+		return newSarlBatchCompiler(config.get(), defaultClasspath.get(), guiceInjector,
+				logger.get(), formatterProvider.get(), javaCompilerProvider.get());
+	}
+
+	/** Create a SARL batch compiler that is configured according to the given sarlc configuration.
+	 *
+	 * <p>Contrary to {@link #provideSarlBatchCompiler(Provider, Provider, Injector, Provider, Provider, Provider)},
+	 * this function creates a new compiler instance each time it is invoked. It is used by the tools
+	 * that are running multiple compilations with the same injectors, e.g. the sarlc daemon.
+	 *
+	 * @param cfg the configuration for the paths.
+	 * @param classpathProvider the SARL boot class path that must be used by default.
+	 * @param guiceInjector the current injector for the SARL compiler.
+	 * @param logger the logger.
+	 * @param issueMessageFormatter the message formatter.
+	 * @param javaCompiler the Java compiler.
+	 * @return the SARL batch compiler
+	 * @since 0.15
+	 */
+	public static SarlBatchCompiler newSarlBatchCompiler(
+			SarlcConfig cfg,
+			SARLClasspathProvider classpathProvider,
+			Injector guiceInjector,
+			Logger logger,
+			IssueMessageFormatter issueMessageFormatter,
+			IJavaBatchCompiler javaCompiler) {
 		final var compilerConfig = cfg.getCompiler();
 		final var validatorConfig = cfg.getValidator();
 
@@ -127,15 +152,17 @@ public class SarlBatchCompilerModule implements BQModule {
 		final var jversion = SarlBatchCompilerUtils.parseJavaVersion(compilerConfig.getJavaVersion());
 		compiler.setJavaSourceVersion(jversion.getQualifier());
 
-		final var classpathProvider = defaultClasspath.get();
-		final var fullClassPath = ClassPathUtils.buildClassPath(classpathProvider, cfg, jversion, logger.get());
+		final var fullClassPath = ClassPathUtils.buildClassPath(classpathProvider, cfg, jversion, logger);
 		compiler.setClassPath(fullClassPath.toFileList());
-		final var fullModulePath = ClassPathUtils.buildModulePath(classpathProvider, cfg, jversion, logger.get());
+		final var fullModulePath = ClassPathUtils.buildModulePath(classpathProvider, cfg, jversion, logger);
 		compiler.setModulePath(fullModulePath.toFileList());
 
 		compiler.setOptimizationLevel(cfg.getCompiler().getOptimizationLevelObject());
 		compiler.setWriteTraceFiles(compilerConfig.getOutputTraceFiles());
 		compiler.setWriteStorageFiles(compilerConfig.getOutputTraceFiles());
+		compiler.setIncrementalCompilation(compilerConfig.getIncremental());
+		compiler.setBuildIndexFile(compilerConfig.getBuildIndexFile());
+		compiler.setInMemoryStubCompilation(compilerConfig.getInMemoryStubs());
 
 		compiler.setGenerateInlineAnnotation(compilerConfig.getGenerateInlines());
 		compiler.setUseExpressionInterpreterForInlineAnnotation(compilerConfig.getCompressInlineExpressions());
@@ -155,12 +182,11 @@ public class SarlBatchCompilerModule implements BQModule {
 			compiler.setWarningSeverity(entry.getKey(), entry.getValue());
 		}
 
-		final var issueMessageFormatter = formatterProvider.get();
 		compiler.setIssueMessageFormatter(issueMessageFormatter);
 
 		final var jcompiler = compilerConfig.getJavaCompiler();
 		compiler.setJavaPostCompilationEnable(jcompiler != JavaCompiler.NONE);
-		compiler.setJavaCompiler(javaCompilerProvider.get());
+		compiler.setJavaCompiler(javaCompiler);
 
 		return compiler;
 	}
@@ -0,0 +1,447 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2025 SARL.io, the Original Authors and Main Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sarl.lang.compiler.batch;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintWriter;
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLConnection;
+import java.net.URLStreamHandler;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.tools.FileObject;
+import javax.tools.ForwardingJavaFileManager;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.JavaFileObject.Kind;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+
+import com.google.common.collect.Iterables;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.xtext.util.JavaVersion;
+import org.eclipse.xtext.util.Strings;
+import org.eclipse.xtext.xbase.lib.Pure;
+
+/** Java file manager that stores the Java source files and the compiled class files in memory.
+ *
+ * <p>This file manager is used by the SARL batch compiler for compiling the Java stubs
+ * without writing them, and their byte codes, into temporary folders. The in-memory class files
+ * are visible by the Java compiler as entries of the class path, and they could be loaded
+ * with the class loader that is replied by {@link #createClassLoader(ClassLoader)}.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.15
+ */
+public class InMemoryJavaFileManager extends ForwardingJavaFileManager<StandardJavaFileManager> {
+
+	private static final String URI_SCHEME = "mem"; //$NON-NLS-1$
+
+	private final JavaCompiler compiler;
+
+	private final Charset encoding;
+
+	private final Map<String, SourceFile> sourceFiles = new TreeMap<>();
+
+	private final Map<String, ClassFile> classFiles = new ConcurrentHashMap<>();
+
+	/** Constructor.
+	 *
+	 * @param compiler the Java compiler that must be used for compiling the in-memory source files.
+	 * @param encoding the encoding of the source files, or {@code null} for the default encoding.
+	 */
+	public InMemoryJavaFileManager(JavaCompiler compiler, Charset encoding) {
+		super(compiler.getStandardFileManager(null, null, encoding));
+		this.compiler = compiler;
+		this.encoding = encoding;
+	}
+
+	/** Add a Java source file.
+	 *
+	 * @param path the path of the file relatively to the root of the source folder, e.g. {@code a/b/C.java}.
+	 * @param content the content of the file.
+	 */
+	public void addSourceFile(String path, CharSequence content) {
+		final var normalizedPath = path.replace(File.separatorChar, '/');
+		final var relativePath = normalizedPath.startsWith("/") ? normalizedPath.substring(1) : normalizedPath; //$NON-NLS-1$
+		this.sourceFiles.put(relativePath, new SourceFile(relativePath, content));
+	}
+
+	/** Replies the number of in-memory Java source files.
+	 *
+	 * @return the number of source files.
+	 */
+	@Pure
+	public int getSourceFileCount() {
+		return this.sourceFiles.size();
+	}
+
+	/** Replies the number of in-memory class files.
+	 *
+	 * @return the number of class files.
+	 */
+	@Pure
+	public int getClassFileCount() {
+		return this.classFiles.size();
+	}
+
+	/** Replies the byte code of the class with the given binary name.
+	 *
+	 * @param binaryName the binary name of the class, e.g. {@code a.b.C$D}.
+	 * @return the byte code, or {@code null} if the class is not in memory.
+	 */
+	@Pure
+	public byte[] getClassBytes(String binaryName) {
+		final var file = this.classFiles.get(binaryName);
+		return file == null ? null : file.getBytes();
+	}
+
+	/** Compile the in-memory Java source files. The class files are stored in memory.
+	 *
+	 * @param classPathEntries the class path entries.
+	 * @param modulePathEntries the module path entries.
+	 * @param javaVersion the version of Java that is the target.
+	 * @param errWriter the writer of the error messages.
+	 * @param progress monitor of the progress of the compilation.
+	 * @return the success status.
+	 * @throws IOException if the paths cannot be set up.
+	 */
+	public CompilerStatus compileSourceFiles(Iterable<File> classPathEntries, Iterable<File> modulePathEntries,
+			JavaVersion javaVersion, PrintWriter errWriter, IProgressMonitor progress) throws IOException {
+		return compile(new ArrayList<>(this.sourceFiles.values()), classPathEntries, modulePathEntries,
+				javaVersion, errWriter, progress);
+	}
+
+	/** Compile the Java source files that are stored into the given folders. The class files are stored in memory,
+	 * and the in-memory class files are visible from the compiled files.
+	 *
+	 * @param sourceFolders the folders that contain the Java source files to compile.
+	 * @param classPathEntries the class path entries.
+	 * @param javaVersion the version of Java that is the target.
+	 * @param errWriter the writer of the error messages.
+	 * @param progress monitor of the progress of the compilation.
+	 * @return the success status.
+	 * @throws IOException if the paths cannot be set up.
+	 */
+	public CompilerStatus compileFiles(Iterable<File> sourceFolders, Iterable<File> classPathEntries,
+			JavaVersion javaVersion, PrintWriter errWriter, IProgressMonitor progress) throws IOException {
+		final var files = new ArrayList<File>();
+		for (final var folder : sourceFolders) {
+			if (progress.isCanceled()) {
+				return CompilerStatus.CANCELED;
+			}
+			collectJavaFiles(folder.getAbsoluteFile(), files);
+		}
+		final var units = new ArrayList<JavaFileObject>();
+		Iterables.addAll(units, this.fileManager.getJavaFileObjectsFromFiles(files));
+		return compile(units, classPathEntries, Collections.emptyList(), javaVersion, errWriter, progress);
+	}
+
+	private static void collectJavaFiles(File root, List<File> files) {
+		if (root.isDirectory()) {
+			final var children = root.listFiles();
+			if (children != null) {
+				for (final var child : children) {
+					collectJavaFiles(child, files);
+				}
+			}
+		} else if (root.getName().endsWith(Kind.SOURCE.extension)) {
+			files.add(root);
+		}
+	}
+
+	private CompilerStatus compile(List<JavaFileObject> units, Iterable<File> classPathEntries,
+			Iterable<File> modulePathEntries, JavaVersion javaVersion, PrintWriter errWriter,
+			IProgressMonitor progress) throws IOException {
+		if (units.isEmpty()) {
+			return CompilerStatus.NOTHING_TO_COMPILE;
+		}
+		if (progress.isCanceled()) {
+			return CompilerStatus.CANCELED;
+		}
+		this.fileManager.setLocation(StandardLocation.CLASS_PATH, existingFiles(classPathEntries));
+		this.fileManager.setLocation(StandardLocation.MODULE_PATH, existingFiles(modulePathEntries));
+		final var options = new ArrayList<String>();
+		options.add("-nowarn"); //$NON-NLS-1$
+		options.add("-proc:none"); //$NON-NLS-1$
+		options.add("-source"); //$NON-NLS-1$
+		options.add(javaVersion.getQualifier());
+		options.add("-target"); //$NON-NLS-1$
+		options.add(javaVersion.getQualifier());
+		if (this.encoding != null) {
+			options.add("-encoding"); //$NON-NLS-1$
+			options.add(this.encoding.name());
+		}
+		final var task = this.compiler.getTask(errWriter, this, null, options, null, units);
+		if (progress.isCanceled()) {
+			return CompilerStatus.CANCELED;
+		}
+		return task.call().booleanValue() ? CompilerStatus.COMPILATION_SUCCESS : CompilerStatus.COMPILATION_FAILURE;
+	}
+
+	private static List<File> existingFiles(Iterable<File> files) {
+		final var list = new ArrayList<File>();
+		for (final var file : files) {
+			if (file.exists()) {
+				list.add(file);
+			}
+		}
+		return list;
+	}
+
+	@Override
+	public JavaFileObject getJavaFileForOutput(Location location, String className, Kind kind, FileObject sibling)
+			throws IOException {
+		if (location == StandardLocation.CLASS_OUTPUT && kind == Kind.CLASS) {
+			final var file = new ClassFile(className);
+			this.classFiles.put(className, file);
+			return file;
+		}
+		return super.getJavaFileForOutput(location, className, kind, sibling);
+	}
+
+	@Override
+	public Iterable<JavaFileObject> list(Location location, String packageName, Set<Kind> kinds, boolean recurse)
+			throws IOException {
+		final var files = super.list(location, packageName, kinds, recurse);
+		if (location == StandardLocation.CLASS_PATH && kinds.contains(Kind.CLASS)) {
+			final var inMemoryFiles = new ArrayList<JavaFileObject>();
+			for (final var file : this.classFiles.values()) {
+				final var filePackage = file.getPackageName();
+				if (filePackage.equals(packageName)
+						|| (recurse && (packageName.isEmpty() || filePackage.startsWith(packageName + ".")))) { //$NON-NLS-1$
+					inMemoryFiles.add(file);
+				}
+			}
+			if (!inMemoryFiles.isEmpty()) {
+				return Iterables.concat(inMemoryFiles, files);
+			}
+		}
+		return files;
+	}
+
+	@Override
+	public String inferBinaryName(Location location, JavaFileObject file) {
+		if (file instanceof ClassFile classFile) {
+			return classFile.getBinaryName();
+		}
+		return super.inferBinaryName(location, file);
+	}
+
+	/** Create a class loader that is loading the in-memory classes before delegating to the parent class loader.
+	 * The class loader is closing the parent class loader when it is closed.
+	 *
+	 * @param parent the parent class loader.
+	 * @return the class loader.
+	 */
+	public ClassLoader createClassLoader(ClassLoader parent) {
+		return new InMemoryClassLoader(this, parent);
+	}
+
+	private static URI toURI(String path) {
+		return URI.create(URI_SCHEME + ":///" + path); //$NON-NLS-1$
+	}
+
+	/** In-memory Java source file.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 0.15
+	 */
+	private static final class SourceFile extends SimpleJavaFileObject {
+
+		private final CharSequence content;
+
+		SourceFile(String path, CharSequence content) {
+			super(toURI(path), Kind.SOURCE);
+			this.content = content;
+		}
+
+		@Override
+		public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+			return this.content;
+		}
+
+	}
+
+	/** In-memory Java class file.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 0.15
+	 */
+	private static final class ClassFile extends SimpleJavaFileObject {
+
+		private final String binaryName;
+
+		private volatile byte[] bytes = new byte[0];
+
+		ClassFile(String binaryName) {
+			super(toURI(binaryName.replace('.', '/') + Kind.CLASS.extension), Kind.CLASS);
+			this.binaryName = binaryName;
+		}
+
+		String getBinaryName() {
+			return this.binaryName;
+		}
+
+		String getPackageName() {
+			final var index = this.binaryName.lastIndexOf('.');
+			return index < 0 ? "" : this.binaryName.substring(0, index); //$NON-NLS-1$
+		}
+
+		byte[] getBytes() {
+			return this.bytes;
+		}
+
+		@Override
+		public OutputStream openOutputStream() {
+			return new ByteArrayOutputStream() {
+				@Override
+				public void close() throws IOException {
+					super.close();
+					ClassFile.this.bytes = toByteArray();
+				}
+			};
+		}
+
+		@Override
+		public InputStream openInputStream() {
+			return new ByteArrayInputStream(this.bytes);
+		}
+
+	}
+
+	/** Class loader on the in-memory class files.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 0.15
+	 */
+	private static final class InMemoryClassLoader extends ClassLoader implements Closeable {
+
+		private final InMemoryJavaFileManager fileManager;
+
+		InMemoryClassLoader(InMemoryJavaFileManager fileManager, ClassLoader parent) {
+			super(parent);
+			this.fileManager = fileManager;
+		}
+
+		@Override
+		protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+			synchronized (getClassLoadingLock(name)) {
+				var type = findLoadedClass(name);
+				if (type == null) {
+					final var bytes = this.fileManager.getClassBytes(name);
+					if (bytes == null) {
+						return super.loadClass(name, resolve);
+					}
+					type = defineClass(name, bytes, 0, bytes.length);
+				}
+				if (resolve) {
+					resolveClass(type);
+				}
+				return type;
+			}
+		}
+
+		private byte[] getResourceBytes(String name) {
+			if (!Strings.isEmpty(name) && name.endsWith(Kind.CLASS.extension)) {
+				final var binaryName = name.substring(0, name.length() - Kind.CLASS.extension.length()).replace('/', '.');
+				return this.fileManager.getClassBytes(binaryName);
+			}
+			return null;
+		}
+
+		@SuppressWarnings("deprecation")
+		@Override
+		public URL getResource(String name) {
+			final var bytes = getResourceBytes(name);
+			if (bytes != null) {
+				try {
+					return new URL(null, toURI(name).toString(), new URLStreamHandler() {
+						@Override
+						protected URLConnection openConnection(URL url) {
+							return new URLConnection(url) {
+								@Override
+								public void connect() {
+									//
+								}
+
+								@Override
+								public InputStream getInputStream() {
+									return new ByteArrayInputStream(bytes);
+								}
+							};
+						}
+					});
+				} catch (MalformedURLException ex) {
+					throw new IllegalStateException(ex);
+				}
+			}
+			return super.getResource(name);
+		}
+
+		@Override
+		public InputStream getResourceAsStream(String name) {
+			final var bytes = getResourceBytes(name);
+			if (bytes != null) {
+				return new ByteArrayInputStream(bytes);
+			}
+			return super.getResourceAsStream(name);
+		}
+
+		@Override
+		public void close() throws IOException {
+			if (getParent() instanceof Closeable closeable) {
+				closeable.close();
+			}
+		}
+
+	}
+
+}
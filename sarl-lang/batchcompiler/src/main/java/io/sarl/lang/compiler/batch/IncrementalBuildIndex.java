@@ -0,0 +1,421 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2025 SARL.io, the Original Authors and Main Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sarl.lang.compiler.batch;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.xtext.common.types.JvmAnnotationReference;
+import org.eclipse.xtext.common.types.JvmAnnotationValue;
+import org.eclipse.xtext.common.types.JvmDeclaredType;
+import org.eclipse.xtext.common.types.JvmExecutable;
+import org.eclipse.xtext.common.types.JvmField;
+import org.eclipse.xtext.common.types.JvmGenericType;
+import org.eclipse.xtext.common.types.JvmMember;
+import org.eclipse.xtext.common.types.JvmOperation;
+import org.eclipse.xtext.common.types.JvmTypeReference;
+import org.eclipse.xtext.common.types.JvmVisibility;
+import org.eclipse.xtext.xbase.lib.Pure;
+
+/** Index of the SARL files that were compiled during a previous run of the batch compiler.
+ *
+ * <p>For each SARL file, the index stores a fingerprint of the file content, a fingerprint of
+ * the signatures that are exported by the file (types, non-private members and their types),
+ * the names of the exported types, the names of the types that are referenced by the file, and
+ * the files that were generated from the file.
+ * These informations enable the batch compiler to recompile only the files that have changed,
+ * and the files that are referencing a type for which the signature has changed, and to delete
+ * the generated files that are not generated anymore.
+ *
+ * <p>The index is stored in a text file with one entry per line.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.15
+ */
+public class IncrementalBuildIndex {
+
+	/** Default name of the file in which the index is stored.
+	 */
+	public static final String DEFAULT_FILENAME = ".sarl-build-index"; //$NON-NLS-1$
+
+	private static final String HEADER = "# SARL incremental build index"; //$NON-NLS-1$
+
+	private static final String FORMAT_VERSION = "2"; //$NON-NLS-1$
+
+	private static final String VERSION_KEY = "version"; //$NON-NLS-1$
+
+	private static final String CONFIGURATION_KEY = "configuration"; //$NON-NLS-1$
+
+	private static final String ENTRY_KEY = "file"; //$NON-NLS-1$
+
+	private static final String SEPARATOR = "\t"; //$NON-NLS-1$
+
+	private static final String NAME_SEPARATOR = " "; //$NON-NLS-1$
+
+	private static final String FILE_SEPARATOR = File.pathSeparator;
+
+	private static final String HASH_ALGORITHM = "SHA-256"; //$NON-NLS-1$
+
+	private final String configurationKey;
+
+	private final Map<String, Entry> entries = new TreeMap<>();
+
+	/** Constructor.
+	 *
+	 * @param configurationKey the fingerprint of the compiler configuration that was used for building the index.
+	 */
+	public IncrementalBuildIndex(String configurationKey) {
+		this.configurationKey = configurationKey;
+	}
+
+	/** Replies the fingerprint of the compiler configuration that was used for building the index.
+	 *
+	 * @return the configuration fingerprint.
+	 */
+	@Pure
+	public String getConfigurationKey() {
+		return this.configurationKey;
+	}
+
+	/** Replies the entry for the given resource.
+	 *
+	 * @param resourceUri the URI of the resource.
+	 * @return the entry, or {@code null} if the resource is not indexed.
+	 */
+	@Pure
+	public Entry getEntry(String resourceUri) {
+		return this.entries.get(resourceUri);
+	}
+
+	/** Change the entry for the given resource.
+	 *
+	 * @param resourceUri the URI of the resource.
+	 * @param entry the entry.
+	 */
+	public void putEntry(String resourceUri, Entry entry) {
+		assert resourceUri != null;
+		assert entry != null;
+		this.entries.put(resourceUri, entry);
+	}
+
+	/** Replies the URIs of the indexed resources.
+	 *
+	 * @return the URIs of the resources.
+	 */
+	@Pure
+	public Set<String> getResourceURIs() {
+		return Collections.unmodifiableSet(this.entries.keySet());
+	}
+
+	/** Replies the number of indexed resources.
+	 *
+	 * @return the number of resources.
+	 */
+	@Pure
+	public int size() {
+		return this.entries.size();
+	}
+
+	/** Replies the URIs of the indexed resources that are referencing at least one of the given type names.
+	 *
+	 * @param typeNames the names of the types, in lower case.
+	 * @return the URIs of the dependent resources.
+	 */
+	@Pure
+	public Set<String> getDependentResources(Collection<String> typeNames) {
+		final var dependents = new TreeSet<String>();
+		if (!typeNames.isEmpty()) {
+			for (final var entry : this.entries.entrySet()) {
+				if (!Collections.disjoint(entry.getValue().importedNames(), typeNames)) {
+					dependents.add(entry.getKey());
+				}
+			}
+		}
+		return dependents;
+	}
+
+	/** Read the index from the given file.
+	 *
+	 * @param file the file to read.
+	 * @param configurationKey the fingerprint of the current compiler configuration.
+	 * @return the index, or {@code null} if the file does not exist, or if it was built
+	 *     with another format or another compiler configuration.
+	 * @throws IOException if the file cannot be read.
+	 */
+	public static IncrementalBuildIndex read(File file, String configurationKey) throws IOException {
+		if (file == null || !file.isFile()) {
+			return null;
+		}
+		final var index = new IncrementalBuildIndex(configurationKey);
+		try (BufferedReader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+			var line = reader.readLine();
+			if (!HEADER.equals(line)) {
+				return null;
+			}
+			line = reader.readLine();
+			if (!(VERSION_KEY + SEPARATOR + FORMAT_VERSION).equals(line)) {
+				return null;
+			}
+			line = reader.readLine();
+			if (!(CONFIGURATION_KEY + SEPARATOR + configurationKey).equals(line)) {
+				return null;
+			}
+			line = reader.readLine();
+			while (line != null) {
+				final var columns = line.split(SEPARATOR, -1);
+				if (columns.length != 7 || !ENTRY_KEY.equals(columns[0])) {
+					return null;
+				}
+				index.putEntry(columns[1], new Entry(columns[2], columns[3],
+						parseNames(columns[4], NAME_SEPARATOR), parseNames(columns[5], NAME_SEPARATOR),
+						parseNames(columns[6], FILE_SEPARATOR)));
+				line = reader.readLine();
+			}
+		}
+		return index;
+	}
+
+	private static Set<String> parseNames(String names, String separator) {
+		if (names.isEmpty()) {
+			return Collections.emptySet();
+		}
+		return Collections.unmodifiableSet(new TreeSet<>(Arrays.asList(names.split(Pattern.quote(separator)))));
+	}
+
+	/** Write the index into the given file.
+	 * The file is replaced atomically when the file system supports it.
+	 *
+	 * @param file the file to write.
+	 * @throws IOException if the file cannot be written.
+	 */
+	public void write(File file) throws IOException {
+		final var parent = file.getAbsoluteFile().getParentFile();
+		if (parent != null) {
+			parent.mkdirs();
+		}
+		final var tmpFile = new File(parent, file.getName() + ".tmp"); //$NON-NLS-1$
+		try (var writer = Files.newBufferedWriter(tmpFile.toPath(), StandardCharsets.UTF_8)) {
+			writer.write(HEADER);
+			writer.newLine();
+			writer.write(VERSION_KEY + SEPARATOR + FORMAT_VERSION);
+			writer.newLine();
+			writer.write(CONFIGURATION_KEY + SEPARATOR + getConfigurationKey());
+			writer.newLine();
+			for (final var entry : this.entries.entrySet()) {
+				final var value = entry.getValue();
+				writer.write(ENTRY_KEY);
+				writer.write(SEPARATOR);
+				writer.write(entry.getKey());
+				writer.write(SEPARATOR);
+				writer.write(value.contentHash());
+				writer.write(SEPARATOR);
+				writer.write(value.signatureHash());
+				writer.write(SEPARATOR);
+				writer.write(String.join(NAME_SEPARATOR, value.exportedNames()));
+				writer.write(SEPARATOR);
+				writer.write(String.join(NAME_SEPARATOR, value.importedNames()));
+				writer.write(SEPARATOR);
+				writer.write(String.join(FILE_SEPARATOR, value.generatedFiles()));
+				writer.newLine();
+			}
+		}
+		try {
+			Files.move(tmpFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException ex) {
+			Files.move(tmpFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+
+	/** Compute the fingerprint of the given string of characters.
+	 *
+	 * @param value the value to hash.
+	 * @return the fingerprint.
+	 */
+	public static String computeHash(String value) {
+		return computeHash(value.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/** Compute the fingerprint of the given bytes.
+	 *
+	 * @param value the value to hash.
+	 * @return the fingerprint.
+	 */
+	public static String computeHash(byte[] value) {
+		try {
+			return HexFormat.of().formatHex(MessageDigest.getInstance(HASH_ALGORITHM).digest(value));
+		} catch (NoSuchAlgorithmException ex) {
+			// SHA-256 must be supported by any Java platform
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	/** Compute the fingerprint of the content of the given file.
+	 *
+	 * @param file the file to read.
+	 * @return the fingerprint.
+	 * @throws IOException if the file cannot be read.
+	 */
+	public static String computeContentHash(File file) throws IOException {
+		return computeHash(Files.readAllBytes(file.toPath()));
+	}
+
+	/** Compute the fingerprint of the signatures that are exported by the given resource.
+	 * The signatures are extracted from the JVM types that are inferred from the resource.
+	 * Private members and bodies of the executables are ignored.
+	 *
+	 * @param resource the resource.
+	 * @return the fingerprint.
+	 */
+	public static String computeSignatureHash(Resource resource) {
+		final var buffer = new StringBuilder();
+		for (final var content : resource.getContents()) {
+			if (content instanceof JvmDeclaredType type) {
+				appendSignature(buffer, type);
+			}
+		}
+		return computeHash(buffer.toString());
+	}
+
+	private static void appendSignature(StringBuilder buffer, JvmDeclaredType type) {
+		buffer.append(type.getIdentifier()).append(SEPARATOR).append(type.eClass().getName());
+		appendModifiers(buffer, type);
+		buffer.append(SEPARATOR).append(type.isAbstract()).append(SEPARATOR).append(type.isFinal());
+		if (type instanceof JvmGenericType genericType) {
+			buffer.append(SEPARATOR).append(genericType.isInterface());
+		}
+		for (final var superType : type.getSuperTypes()) {
+			buffer.append(SEPARATOR).append(getIdentifier(superType));
+		}
+		buffer.append('\n');
+		for (final var member : type.getMembers()) {
+			if (member.getVisibility() == JvmVisibility.PRIVATE) {
+				continue;
+			}
+			if (member instanceof JvmDeclaredType nestedType) {
+				appendSignature(buffer, nestedType);
+			} else {
+				buffer.append(member.getIdentifier());
+				appendModifiers(buffer, member);
+				if (member instanceof JvmField field) {
+					buffer.append(SEPARATOR).append(field.isStatic()).append(SEPARATOR).append(field.isFinal());
+					buffer.append(SEPARATOR).append(getIdentifier(field.getType()));
+				} else if (member instanceof JvmExecutable executable) {
+					buffer.append(SEPARATOR).append(executable.isVarArgs());
+					for (final var exception : executable.getExceptions()) {
+						buffer.append(SEPARATOR).append(getIdentifier(exception));
+					}
+					if (executable instanceof JvmOperation operation) {
+						buffer.append(SEPARATOR).append(operation.isStatic()).append(SEPARATOR).append(operation.isAbstract());
+						buffer.append(SEPARATOR).append(operation.isFinal());
+						buffer.append(SEPARATOR).append(getIdentifier(operation.getReturnType()));
+					}
+				}
+				buffer.append('\n');
+			}
+		}
+	}
+
+	private static void appendModifiers(StringBuilder buffer, JvmMember member) {
+		buffer.append(SEPARATOR).append(member.getVisibility());
+		buffer.append(SEPARATOR).append(member.isDeprecated());
+		// Annotations are part of the signature because they may carry
+		// information that is used by the callers, e.g. the inlined expressions.
+		for (final var annotation : member.getAnnotations()) {
+			appendAnnotation(buffer, annotation);
+		}
+	}
+
+	private static void appendAnnotation(StringBuilder buffer, JvmAnnotationReference annotation) {
+		final var annotationType = annotation.getAnnotation();
+		buffer.append(SEPARATOR).append('@').append(annotationType == null ? null : annotationType.getIdentifier());
+		for (final var value : annotation.getExplicitValues()) {
+			buffer.append(SEPARATOR).append(value.getValueName()).append('=');
+			appendAnnotationValue(buffer, value);
+		}
+	}
+
+	private static void appendAnnotationValue(StringBuilder buffer, JvmAnnotationValue value) {
+		final var feature = value.eClass().getEStructuralFeature("values"); //$NON-NLS-1$
+		if (feature != null && value.eGet(feature) instanceof List<?> values) {
+			for (final var element : values) {
+				if (element instanceof JvmTypeReference typeReference) {
+					buffer.append(getIdentifier(typeReference));
+				} else if (element instanceof JvmAnnotationReference annotationReference) {
+					appendAnnotation(buffer, annotationReference);
+				} else if (element instanceof EObject eobject) {
+					// The textual representation of the other EMF objects is not stable
+					buffer.append(eobject.eClass().getName());
+				} else {
+					buffer.append(element);
+				}
+				buffer.append(',');
+			}
+		}
+	}
+
+	private static String getIdentifier(JvmTypeReference reference) {
+		if (reference == null) {
+			return null;
+		}
+		return reference.getIdentifier();
+	}
+
+	/** Entry of the index.
+	 *
+	 * @param contentHash the fingerprint of the file content.
+	 * @param signatureHash the fingerprint of the exported signatures.
+	 * @param exportedNames the names of the exported types, in lower case.
+	 * @param importedNames the names of the referenced types, in lower case.
+	 * @param generatedFiles the absolute paths of the files that were generated from the SARL file.
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 0.15
+	 */
+	public record Entry(String contentHash, String signatureHash, Set<String> exportedNames, Set<String> importedNames,
+			Set<String> generatedFiles) {
+		//
+	}
+
+}
@@ -21,6 +21,7 @@
 
 package io.sarl.lang.compiler.batch;
 
+import java.io.ByteArrayInputStream;
 import java.io.Closeable;
 import java.io.File;
 import java.io.FileFilter;
@@ -30,6 +31,8 @@ import java.io.PrintWriter;
 import java.io.Writer;
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -73,13 +76,16 @@ import org.eclipse.xtext.common.types.access.impl.ClasspathTypeProvider;
 import org.eclipse.xtext.common.types.access.impl.IndexedJvmTypeAccess;
 import org.eclipse.xtext.common.types.descriptions.IStubGenerator;
 import org.eclipse.xtext.diagnostics.Severity;
+import org.eclipse.xtext.generator.AbstractFileSystemAccess2;
 import org.eclipse.xtext.generator.GeneratorContext;
 import org.eclipse.xtext.generator.GeneratorDelegate;
 import org.eclipse.xtext.generator.IFileSystemAccess;
 import org.eclipse.xtext.generator.IOutputConfigurationProvider;
+import org.eclipse.xtext.generator.InMemoryFileSystemAccess;
 import org.eclipse.xtext.generator.JavaIoFileSystemAccess;
 import org.eclipse.xtext.generator.OutputConfiguration;
 import org.eclipse.xtext.generator.OutputConfigurationAdapter;
+import org.eclipse.xtext.generator.trace.TraceFileNameProvider;
 import org.eclipse.xtext.mwe.NameBasedFilter;
 import org.eclipse.xtext.mwe.PathTraverser;
 import org.eclipse.xtext.parser.IEncodingProvider;
@@ -110,6 +116,7 @@ import io.sarl.lang.compiler.GeneratorConfig2;
 import io.sarl.lang.compiler.GeneratorConfigProvider2;
 import io.sarl.lang.compiler.IGeneratorConfigProvider2;
 import io.sarl.lang.compiler.batch.InternalXtextLogger.InternalXtextLoggerFactory;
+import io.sarl.lang.core.SARLVersion;
 import io.sarl.lang.extralanguage.IExtraLanguageContribution;
 import io.sarl.lang.extralanguage.IExtraLanguageContributions;
 import io.sarl.lang.util.Utils;
@@ -209,6 +216,9 @@ public class SarlBatchCompiler {
 	@Inject
 	private IStubGenerator stubGenerator;
 
+	@Inject
+	private TraceFileNameProvider traceFileNameProvider;
+
 	@Inject
 	private GeneratorDelegate generator;
 
@@ -248,6 +258,24 @@ public class SarlBatchCompiler {
 
 	private OptimizationLevel optimizationLevel;
 
+	private boolean incrementalCompilation;
+
+	private File buildIndexFile;
+
+	private IncrementalBuildIndex previousBuildIndex;
+
+	private IncrementalBuildIndex currentBuildIndex;
+
+	private Set<String> changedResources;
+
+	private Set<String> compilationScope;
+
+	private Map<String, Set<String>> generatedFiles;
+
+	private boolean inMemoryStubCompilation;
+
+	private InMemoryJavaFileManager stubFileManager;
+
 	/** Constructor the batch compiler.
 	 */
 	public SarlBatchCompiler() {
@@ -613,10 +641,11 @@ public class SarlBatchCompiler {
 
 	/** Set the current class loader.
 	 *
-	 * @param loader the new current class loader.
+	 * @param loader the new current class loader. If it is {@code null}, the class loader
+	 *     of this batch compiler is used.
 	 */
 	public void setCurrentClassLoader(ClassLoader loader) {
-		this.currentClassLoader = null;
+		this.currentClassLoader = loader;
 	}
 
 	/** Set if the class loaderr of this batch compiler must be used as sthe parent class loader.
@@ -831,6 +860,109 @@ public class SarlBatchCompiler {
 		this.cleaningPolicy = policy == null ? CleaningPolicy.getDefault() : policy;
 	}
 
+	/** Replies if the incremental compilation is enabled.
+	 *
+	 * <p>When the incremental compilation is enabled, the batch compiler stores an index of the
+	 * compiled SARL files (see {@link #getBuildIndexFile()}). During the next compilation, only the
+	 * SARL files that have changed, and the SARL files that are referencing a type for which the
+	 * signature has changed, are validated and generated again. The files that were generated from
+	 * a removed or renamed SARL file, and the files that are not generated anymore, are deleted.
+	 *
+	 * <p>All the SARL files are still loaded, and the Java stubs of all the SARL files are still
+	 * generated and compiled with the Java files of the source folders, because they are needed
+	 * for linking the SARL files that are compiled.
+	 *
+	 * @return {@code true} if the incremental compilation is enabled.
+	 * @since 0.15
+	 */
+	@Pure
+	public boolean isIncrementalCompilation() {
+		return this.incrementalCompilation;
+	}
+
+	/** Change the flag that indicates if the incremental compilation is enabled.
+	 *
+	 * <p>When the incremental compilation is enabled, the batch compiler stores an index of the
+	 * compiled SARL files (see {@link #getBuildIndexFile()}). During the next compilation, only the
+	 * SARL files that have changed, and the SARL files that are referencing a type for which the
+	 * signature has changed, are validated and generated again. The files that were generated from
+	 * a removed or renamed SARL file, and the files that are not generated anymore, are deleted.
+	 *
+	 * <p>All the SARL files are still loaded, and the Java stubs of all the SARL files are still
+	 * generated and compiled with the Java files of the source folders, because they are needed
+	 * for linking the SARL files that are compiled.
+	 *
+	 * @param incremental {@code true} if the incremental compilation is enabled.
+	 * @since 0.15
+	 */
+	public void setIncrementalCompilation(boolean incremental) {
+		this.incrementalCompilation = incremental;
+	}
+
+	/** Replies the file in which the index of the incremental compilation is stored.
+	 *
+	 * @return the file. By default, it is the file {@link IncrementalBuildIndex#DEFAULT_FILENAME}
+	 *     into the {@link #getOutputPath() output folder}.
+	 * @since 0.15
+	 */
+	@Pure
+	public File getBuildIndexFile() {
+		if (this.buildIndexFile == null && getOutputPath() != null) {
+			return new File(getOutputPath(), IncrementalBuildIndex.DEFAULT_FILENAME);
+		}
+		return this.buildIndexFile;
+	}
+
+	/** Change the file in which the index of the incremental compilation is stored.
+	 *
+	 * @param file the file. If it is {@code null}, the default file is used.
+	 * @since 0.15
+	 */
+	public void setBuildIndexFile(File file) {
+		this.buildIndexFile = file;
+	}
+
+	/** Replies if the Java stubs and their byte codes are kept in memory.
+	 *
+	 * @return {@code true} if the stubs are compiled in memory; {@code false} if they are
+	 *     written into temporary folders.
+	 * @since 0.15
+	 */
+	@Pure
+	public boolean isInMemoryStubCompilation() {
+		return this.inMemoryStubCompilation;
+	}
+
+	/** Change the flag that indicates if the Java stubs and their byte codes are kept in memory.
+	 *
+	 * <p>When this flag is enabled, the Java stubs of the SARL types are not written into a temporary folder,
+	 * and they are compiled with the Java compiler of the JDK into memory. The JVM type provider
+	 * that is used for linking the SARL files reads the stub classes directly from memory.
+	 * This mode avoids the input/output operations on the file system, e.g. on slow file systems,
+	 * but it needs more memory.
+	 *
+	 * @param inMemory {@code true} if the stubs are compiled in memory; {@code false} if they are
+	 *     written into temporary folders.
+	 * @since 0.15
+	 */
+	public void setInMemoryStubCompilation(boolean inMemory) {
+		this.inMemoryStubCompilation = inMemory;
+	}
+
+	/** Create the file manager that is used for compiling the Java stubs in memory.
+	 *
+	 * @return the file manager, or {@code null} if the Java compiler of the JDK is not available.
+	 * @since 0.15
+	 */
+	protected InMemoryJavaFileManager createInMemoryJavaFileManager() {
+		final var compiler = new JavacBatchCompiler().getSystemJavaCompiler();
+		if (compiler == null) {
+			return null;
+		}
+		final var encoding = getFileEncoding();
+		return new InMemoryJavaFileManager(compiler, Strings.isEmpty(encoding) ? null : Charset.forName(encoding));
+	}
+
 	/** Replies if the temp folder must be deleted at the end of the compilation.
 	 *
 	 * @return {@code true} if the temp folder is deleted.
@@ -1294,7 +1426,18 @@ public class SarlBatchCompiler {
 			}
 			monitor.worked(3);
 			monitor.subTask(Messages.SarlBatchCompiler_44);
-			final var stubClassDirectory = createTempDir(BINCLASS_FOLDER_PREFIX);
+			final File stubClassDirectory;
+			if (isInMemoryStubCompilation()) {
+				this.stubFileManager = createInMemoryJavaFileManager();
+				if (this.stubFileManager == null) {
+					reportInternalWarning(Messages.SarlBatchCompiler_70);
+				}
+			}
+			if (this.stubFileManager != null) {
+				stubClassDirectory = null;
+			} else {
+				stubClassDirectory = createTempDir(BINCLASS_FOLDER_PREFIX);
+			}
 			if (monitor.isCanceled()) {
 				return false;
 			}
@@ -1317,6 +1460,12 @@ public class SarlBatchCompiler {
 					if (monitor.isCanceled()) {
 						return false;
 					}
+					if (isIncrementalCompilation()) {
+						detectChangedSARLFiles(resourceSet, monitor);
+						if (monitor.isCanceled()) {
+							return false;
+						}
+					}
 					monitor.worked(7);
 					final var stubSourceDirectory = createStubs(resourceSet, monitor);
 					if (monitor.isCanceled()) {
@@ -1354,6 +1503,12 @@ public class SarlBatchCompiler {
 				if (monitor.isCanceled()) {
 					return false;
 				}
+				if (isIncrementalCompilation()) {
+					computeCompilationScope(resourceSet, monitor);
+					if (monitor.isCanceled()) {
+						return false;
+					}
+				}
 				monitor.worked(12);
 				generateJvmElements(resourceSet, monitor);
 				if (monitor.isCanceled()) {
@@ -1376,6 +1531,9 @@ public class SarlBatchCompiler {
 				if (monitor.isCanceled()) {
 					return false;
 				}
+				if (isIncrementalCompilation()) {
+					saveBuildIndex(resourceSet, validatedResources);
+				}
 			}
 			monitor.worked(15);
 			if (isJavaPostCompilationEnable()) {
@@ -1401,6 +1559,14 @@ public class SarlBatchCompiler {
 		monitor.subTask(Messages.SarlBatchCompiler_47);
 		destroyClassLoader(this.jvmTypesClassLoader);
 		destroyClassLoader(this.annotationProcessingClassLoader);
+		if (this.stubFileManager != null) {
+			try {
+				this.stubFileManager.close();
+			} catch (IOException ex) {
+				reportInternalWarning(ex.getLocalizedMessage(), ex);
+			}
+			this.stubFileManager = null;
+		}
 		switch (getCleaningPolicy()) {
 		case FULL_CLEANING:
 			if (this.tempPath != null) {
@@ -1422,6 +1588,11 @@ public class SarlBatchCompiler {
 		}
 		this.tempPath = null;
 		this.tempFolders.clear();
+		this.previousBuildIndex = null;
+		this.currentBuildIndex = null;
+		this.changedResources = null;
+		this.compilationScope = null;
+		this.generatedFiles = null;
 		//
 		unconfigureExtraLanguageGenerators();
 	}
@@ -1638,6 +1809,12 @@ public class SarlBatchCompiler {
 
 		final var context = new GeneratorContext();
 		context.setCancelIndicator(() -> progress.isCanceled());
+		// The names of the generated files are recorded by the incremental compilation
+		// in order to delete them when they are not generated anymore.
+		final var recordGeneratedFiles = this.currentBuildIndex != null;
+		if (recordGeneratedFiles) {
+			this.generatedFiles = new TreeMap<>();
+		}
 		for (final var resource : validatedResources) {
 			if (progress.isCanceled()) {
 				return;
@@ -1645,17 +1822,73 @@ public class SarlBatchCompiler {
 			if (getLogger().isLoggable(Level.FINEST)) {
 				getLogger().finest(MessageFormat.format(Messages.SarlBatchCompiler_23, resource.getURI().lastSegment()));
 			}
+			final AbstractFileSystemAccess2 fileSystemAccess;
+			if (recordGeneratedFiles) {
+				fileSystemAccess = new InMemoryFileSystemAccess();
+				fileSystemAccess.setOutputConfigurations(this.outputConfigurations);
+			} else {
+				fileSystemAccess = javaIoFileSystemAccess;
+			}
 			if (isWriteStorageFiles() && resource instanceof StorageAwareResource storageAwareResource) {
-				storageAwareResource.getResourceStorageFacade().saveResource(storageAwareResource, javaIoFileSystemAccess);
+				storageAwareResource.getResourceStorageFacade().saveResource(storageAwareResource, fileSystemAccess);
 			}
 			if (progress.isCanceled()) {
 				return;
 			}
-			this.generator.generate(resource, javaIoFileSystemAccess, context);
+			this.generator.generate(resource, fileSystemAccess, context);
+			if (recordGeneratedFiles) {
+				this.generatedFiles.put(resource.getURI().toString(),
+						writeGeneratedFiles((InMemoryFileSystemAccess) fileSystemAccess, javaIoFileSystemAccess));
+			}
 			notifiesCompiledResourceReceiver(resource);
 		}
 	}
 
+	/** Write the files that were generated into memory.
+	 *
+	 * @param generatedFiles the generated files. The names of the files are prefixed by the names
+	 *     of their output configurations.
+	 * @param fileSystemAccess the file system access to write into.
+	 * @return the absolute paths of the written files, including the trace files.
+	 */
+	private Set<String> writeGeneratedFiles(InMemoryFileSystemAccess generatedFiles, JavaIoFileSystemAccess fileSystemAccess) {
+		final var writtenFiles = new TreeSet<String>();
+		for (final var file : generatedFiles.getTextFiles().entrySet()) {
+			final var outputConfiguration = getOutputConfigurationName(file.getKey());
+			final var fileName = file.getKey().substring(outputConfiguration.length());
+			fileSystemAccess.generateFile(fileName, outputConfiguration, file.getValue());
+			writtenFiles.add(getGeneratedFile(fileName, outputConfiguration).toString());
+			if (isWriteTraceFiles()) {
+				final var traceFile = getGeneratedFile(this.traceFileNameProvider.getTraceFromJava(fileName), outputConfiguration);
+				if (traceFile.toFile().exists()) {
+					writtenFiles.add(traceFile.toString());
+				}
+			}
+		}
+		for (final var file : generatedFiles.getBinaryFiles().entrySet()) {
+			final var outputConfiguration = getOutputConfigurationName(file.getKey());
+			final var fileName = file.getKey().substring(outputConfiguration.length());
+			fileSystemAccess.generateFile(fileName, outputConfiguration, new ByteArrayInputStream(file.getValue()));
+			writtenFiles.add(getGeneratedFile(fileName, outputConfiguration).toString());
+		}
+		return writtenFiles;
+	}
+
+	private String getOutputConfigurationName(String generatedFileName) {
+		var name = IFileSystemAccess.DEFAULT_OUTPUT;
+		for (final var candidate : this.outputConfigurations.keySet()) {
+			if (candidate.length() > name.length() && generatedFileName.startsWith(candidate)) {
+				name = candidate;
+			}
+		}
+		return name;
+	}
+
+	private Path getGeneratedFile(String fileName, String outputConfiguration) {
+		final var directory = this.outputConfigurations.get(outputConfiguration).getOutputDirectory();
+		return new File(directory, fileName).toPath().toAbsolutePath().normalize();
+	}
+
 	/** Generate the JVM model elements.
 	 *
 	 * @param progress monitor of the progress of the compilation.
@@ -1672,7 +1905,7 @@ public class SarlBatchCompiler {
 			if (progress.isCanceled()) {
 				return;
 			}
-			if (isSourceFile(resource)) {
+			if (isSourceFile(resource) && isInCompilationScope(resource)) {
 				toBeResolved.add(resource);
 			}
 		}
@@ -1705,7 +1938,7 @@ public class SarlBatchCompiler {
 			if (progress.isCanceled()) {
 				return issuesToReturn;
 			}
-			if (isSourceFile(resource)) {
+			if (isSourceFile(resource) && isInCompilationScope(resource)) {
 				if (getLogger().isLoggable(Level.FINEST)) {
 					getLogger().finest(MessageFormat.format(Messages.SarlBatchCompiler_22, resource.getURI().lastSegment()));
 				}
@@ -1761,30 +1994,321 @@ public class SarlBatchCompiler {
 		return false;
 	}
 
+	/** Replies if the given resource must be validated and generated by the current compilation.
+	 * All the resources are in the compilation scope, except when the incremental compilation
+	 * has detected that the resource and its dependencies have not changed since the previous compilation.
+	 *
+	 * @param resource the resource to test.
+	 * @return {@code true} if the given resource must be compiled.
+	 * @since 0.15
+	 * @see #isIncrementalCompilation()
+	 */
+	protected boolean isInCompilationScope(Resource resource) {
+		final var scope = this.compilationScope;
+		return scope == null || scope.contains(resource.getURI().toString());
+	}
+
+	/** Compute the fingerprint of the compiler configuration.
+	 * If this fingerprint changes, the incremental compilation index is discarded
+	 * and all the SARL files are compiled.
+	 *
+	 * @return the fingerprint.
+	 * @since 0.15
+	 */
+	protected String computeBuildConfigurationKey() {
+		final var buffer = new StringBuilder();
+		buffer.append(SARLVersion.SARL_RELEASE_VERSION).append('\n');
+		buffer.append(getOutputPath()).append('\n');
+		buffer.append(isWriteTraceFiles()).append('\n');
+		buffer.append(isWriteStorageFiles()).append('\n');
+		buffer.append(Utils.dump(getGeneratorConfig(), false)).append('\n');
+		buffer.append(Utils.dump(getGeneratorConfig2(), false)).append('\n');
+		// A change into the libraries may change the types that are referenced by the SARL files
+		for (final var file : Iterables.concat(getClassPath(), getModulePath())) {
+			buffer.append(file.getAbsolutePath());
+			if (file.isFile()) {
+				buffer.append(':').append(file.length()).append(':').append(file.lastModified());
+			}
+			buffer.append('\n');
+		}
+		return IncrementalBuildIndex.computeHash(buffer.toString());
+	}
+
+	/** Load the index of the previous compilation, and detect the SARL files that have changed
+	 * since the previous compilation.
+	 *
+	 * @param resourceSet the container of the scripts.
+	 * @param progress monitor of the progress of the compilation.
+	 * @since 0.15
+	 * @see #isIncrementalCompilation()
+	 */
+	protected void detectChangedSARLFiles(ResourceSet resourceSet, IProgressMonitor progress) {
+		assert progress != null;
+		progress.subTask(Messages.SarlBatchCompiler_66);
+		final var configurationKey = computeBuildConfigurationKey();
+		final var indexFile = getBuildIndexFile();
+		IncrementalBuildIndex previousIndex = null;
+		try {
+			previousIndex = IncrementalBuildIndex.read(indexFile, configurationKey);
+		} catch (IOException ex) {
+			reportInternalWarning(MessageFormat.format(Messages.SarlBatchCompiler_68, indexFile, ex.getLocalizedMessage()), ex);
+		}
+		if (previousIndex == null) {
+			previousIndex = new IncrementalBuildIndex(configurationKey);
+		}
+		final var currentIndex = new IncrementalBuildIndex(configurationKey);
+		final var changed = new TreeSet<String>();
+		for (final var resource : resourceSet.getResources()) {
+			if (progress.isCanceled()) {
+				return;
+			}
+			if (isSourceFile(resource)) {
+				final var uri = resource.getURI();
+				final var key = uri.toString();
+				String contentHash = null;
+				if (uri.isFile()) {
+					try {
+						contentHash = IncrementalBuildIndex.computeContentHash(new File(uri.toFileString()));
+					} catch (IOException ex) {
+						contentHash = null;
+					}
+				}
+				final var previousEntry = previousIndex.getEntry(key);
+				if (contentHash == null || previousEntry == null || !contentHash.equals(previousEntry.contentHash())) {
+					changed.add(key);
+				}
+				currentIndex.putEntry(key, new IncrementalBuildIndex.Entry(
+						contentHash == null ? "" : contentHash, //$NON-NLS-1$
+						"", Collections.emptySet(), Collections.emptySet(), Collections.emptySet())); //$NON-NLS-1$
+			}
+		}
+		this.previousBuildIndex = previousIndex;
+		this.currentBuildIndex = currentIndex;
+		this.changedResources = changed;
+	}
+
+	/** Compute the SARL files that must be validated and generated, i.e. the SARL files that have changed since
+	 * the previous compilation, and the SARL files that are referencing a type for which the exported signature
+	 * has changed. The dependent files are added transitively while their own exported signatures change.
+	 *
+	 * <p>This function must be invoked after {@link #detectChangedSARLFiles(ResourceSet, IProgressMonitor)}, when
+	 * the JVM type provider for the second compilation phase is installed, because the computation of the exported
+	 * signatures needs to infer the JVM model of the changed SARL files.
+	 *
+	 * @param resourceSet the container of the scripts.
+	 * @param progress monitor of the progress of the compilation.
+	 * @since 0.15
+	 * @see #isIncrementalCompilation()
+	 */
+	protected void computeCompilationScope(ResourceSet resourceSet, IProgressMonitor progress) {
+		assert progress != null;
+		final var previousIndex = this.previousBuildIndex;
+		final var currentIndex = this.currentBuildIndex;
+		if (previousIndex == null || currentIndex == null || this.changedResources == null) {
+			this.compilationScope = null;
+			return;
+		}
+		progress.subTask(Messages.SarlBatchCompiler_66);
+		final var resources = new TreeMap<String, Resource>();
+		for (final var resource : resourceSet.getResources()) {
+			if (isSourceFile(resource)) {
+				resources.put(resource.getURI().toString(), resource);
+			}
+		}
+		// The types that were exported by the removed files have changed
+		final var changedNames = new TreeSet<String>();
+		for (final var key : previousIndex.getResourceURIs()) {
+			if (!resources.containsKey(key)) {
+				changedNames.addAll(previousIndex.getEntry(key).exportedNames());
+			}
+		}
+		final var scope = new TreeSet<String>();
+		var pending = new TreeSet<>(this.changedResources);
+		pending.addAll(previousIndex.getDependentResources(changedNames));
+		pending.retainAll(resources.keySet());
+		while (!pending.isEmpty()) {
+			changedNames.clear();
+			for (final var key : pending) {
+				if (progress.isCanceled()) {
+					return;
+				}
+				scope.add(key);
+				final var resource = resources.get(key);
+				final var description = this.resourceDescriptionManager.getResourceDescription(resource);
+				final var exportedNames = new TreeSet<String>();
+				for (final var exportedObject : description.getExportedObjects()) {
+					exportedNames.add(exportedObject.getQualifiedName().toLowerCase().toString());
+				}
+				final var importedNames = new TreeSet<String>();
+				for (final var importedName : description.getImportedNames()) {
+					importedNames.add(importedName.toLowerCase().toString());
+				}
+				final var signatureHash = IncrementalBuildIndex.computeSignatureHash(resource);
+				final var entry = new IncrementalBuildIndex.Entry(
+						currentIndex.getEntry(key).contentHash(), signatureHash,
+						Collections.unmodifiableSet(exportedNames), Collections.unmodifiableSet(importedNames),
+						Collections.emptySet());
+				currentIndex.putEntry(key, entry);
+				final var previousEntry = previousIndex.getEntry(key);
+				if (previousEntry == null) {
+					changedNames.addAll(exportedNames);
+				} else if (!signatureHash.equals(previousEntry.signatureHash())
+						|| !exportedNames.equals(previousEntry.exportedNames())) {
+					changedNames.addAll(exportedNames);
+					changedNames.addAll(previousEntry.exportedNames());
+				}
+			}
+			pending = new TreeSet<>(previousIndex.getDependentResources(changedNames));
+			pending.retainAll(resources.keySet());
+			pending.removeAll(scope);
+		}
+		this.compilationScope = scope;
+		getLogger().info(MessageFormat.format(Messages.SarlBatchCompiler_67,
+				Integer.toString(scope.size()), Integer.toString(resources.size())));
+	}
+
+	/** Save the index of the incremental compilation, and delete the generated files that are not generated anymore.
+	 * The generated files of a SARL file that was removed or renamed since the previous compilation, and the files
+	 * that are not generated anymore from a recompiled SARL file, are deleted with their compiled classes.
+	 * The SARL files that were not successfully compiled are saved into the index with an empty fingerprint
+	 * in order to be compiled again by the next compilation.
+	 *
+	 * @param resourceSet the container of the scripts.
+	 * @param validatedResources the resources that were successfully validated and generated.
+	 * @since 0.15
+	 * @see #isIncrementalCompilation()
+	 */
+	protected void saveBuildIndex(ResourceSet resourceSet, Collection<Resource> validatedResources) {
+		final var previousIndex = this.previousBuildIndex;
+		final var currentIndex = this.currentBuildIndex;
+		final var scope = this.compilationScope;
+		if (previousIndex == null || currentIndex == null || scope == null) {
+			return;
+		}
+		final var generated = this.generatedFiles == null ? Collections.<String, Set<String>>emptyMap() : this.generatedFiles;
+		final var validated = new TreeSet<String>();
+		for (final var resource : validatedResources) {
+			validated.add(resource.getURI().toString());
+		}
+		final var newIndex = new IncrementalBuildIndex(currentIndex.getConfigurationKey());
+		final var keptFiles = new TreeSet<String>();
+		for (final var resource : resourceSet.getResources()) {
+			if (isSourceFile(resource)) {
+				final var key = resource.getURI().toString();
+				final var previousEntry = previousIndex.getEntry(key);
+				IncrementalBuildIndex.Entry entry = null;
+				if (scope.contains(key)) {
+					if (validated.contains(key)) {
+						final var currentEntry = currentIndex.getEntry(key);
+						entry = new IncrementalBuildIndex.Entry(currentEntry.contentHash(), currentEntry.signatureHash(),
+								currentEntry.exportedNames(), currentEntry.importedNames(),
+								Collections.unmodifiableSet(generated.getOrDefault(key, Collections.emptySet())));
+					} else if (previousEntry != null) {
+						// The previously generated files are still on the disk
+						entry = new IncrementalBuildIndex.Entry("", "", //$NON-NLS-1$ //$NON-NLS-2$
+								Collections.emptySet(), Collections.emptySet(), previousEntry.generatedFiles());
+					}
+				} else {
+					entry = previousEntry;
+				}
+				if (entry != null) {
+					newIndex.putEntry(key, entry);
+					keptFiles.addAll(entry.generatedFiles());
+				}
+			}
+		}
+		// A file that is generated by another SARL file, e.g. after a move of a type, must not be deleted
+		for (final var key : previousIndex.getResourceURIs()) {
+			for (final var file : previousIndex.getEntry(key).generatedFiles()) {
+				if (!keptFiles.contains(file)) {
+					deleteGeneratedFile(new File(file));
+				}
+			}
+		}
+		final var indexFile = getBuildIndexFile();
+		try {
+			newIndex.write(indexFile);
+		} catch (IOException ex) {
+			reportInternalWarning(MessageFormat.format(Messages.SarlBatchCompiler_69, indexFile, ex.getLocalizedMessage()), ex);
+		}
+	}
+
+	/** Delete a file that was generated by a previous compilation.
+	 * If the file is a generated Java file, the class files that were compiled from it
+	 * into the {@link #getClassOutputPath() class output folder} are also deleted.
+	 *
+	 * @param file the file to delete.
+	 * @since 0.15
+	 */
+	protected void deleteGeneratedFile(File file) {
+		if (getLogger().isLoggable(Level.FINEST)) {
+			getLogger().finest(MessageFormat.format(Messages.SarlBatchCompiler_71, file));
+		}
+		if (file.exists() && !file.delete()) {
+			reportInternalWarning(MessageFormat.format(Messages.SarlBatchCompiler_72, file));
+		}
+		final var classOutputPath = getClassOutputPath();
+		final var javaExtension = ".java"; //$NON-NLS-1$
+		if (classOutputPath == null || !file.getName().endsWith(javaExtension)) {
+			return;
+		}
+		final var javaOutputPath = getGeneratedFile("", IFileSystemAccess.DEFAULT_OUTPUT); //$NON-NLS-1$
+		final var relativePath = javaOutputPath.relativize(file.toPath());
+		if (relativePath.startsWith("..")) { //$NON-NLS-1$
+			return;
+		}
+		// The class files of the nested types are named with the name of the enclosing type
+		final var relativeName = relativePath.toString();
+		final var classFile = new File(classOutputPath, relativeName.substring(0, relativeName.length() - javaExtension.length()));
+		final var className = classFile.getName();
+		final var classExtension = ".class"; //$NON-NLS-1$
+		final var classFiles = classFile.getParentFile().listFiles((dir, name) -> name.equals(className + classExtension)
+				|| (name.startsWith(className + "$") && name.endsWith(classExtension))); //$NON-NLS-1$
+		if (classFiles != null) {
+			for (final var compiledFile : classFiles) {
+				if (!compiledFile.delete()) {
+					reportInternalWarning(MessageFormat.format(Messages.SarlBatchCompiler_72, compiledFile));
+				}
+			}
+		}
+	}
+
 	/** Compile the stub files before the compilation of the project's files.
+	 *
+	 * <p>If the stubs are compiled in memory, the given directories are {@code null}.
 	 *
 	 * @param sourceDirectory the source directory where stubs are stored.
 	 * @param classDirectory the output directory, where stub binary files should be generated.
 	 * @param progress monitor of the progress of the compilation.
 	 * @return the success status.
+	 * @see #isInMemoryStubCompilation()
 	 */
 	protected CompilerStatus preCompileStubs(File sourceDirectory, File classDirectory, IProgressMonitor progress) {
 		assert progress != null;
 		progress.subTask(Messages.SarlBatchCompiler_50);
+		if (this.stubFileManager != null) {
+			return runInMemoryJavaCompiler(null, getClassPath(), getModulePath(), true, progress);
+		}
 		return runJavaCompiler(classDirectory, Collections.singletonList(sourceDirectory), getClassPath(),
 				getModulePath(), true, false, progress);
 	}
 
 	/** Compile the java files before the compilation of the project's files.
+	 *
+	 * <p>If the stubs are compiled in memory, the given directories are {@code null}.
 	 *
 	 * @param sourceDirectory the source directory where java files are stored.
 	 * @param classDirectory the output directory, where binary files should be generated.
 	 * @param progress monitor of the progress of the compilation.
 	 * @return the success status.
+	 * @see #isInMemoryStubCompilation()
 	 */
 	protected CompilerStatus preCompileJava(File sourceDirectory, File classDirectory, IProgressMonitor progress) {
 		assert progress != null;
 		progress.subTask(Messages.SarlBatchCompiler_51);
+		if (this.stubFileManager != null) {
+			return runInMemoryJavaCompiler(getSourcePaths(), getClassPath(), Collections.emptyList(), false, progress);
+		}
 		final var cp = Iterables.concat(Collections.singleton(sourceDirectory), getClassPath());
 		final var mp = Collections.<File>emptyList();
 		return runJavaCompiler(classDirectory, getSourcePaths(),
@@ -1880,6 +2404,37 @@ public class SarlBatchCompiler {
 						progress);
 	}
 
+	/** Run the Java compiler of the JDK on the in-memory file manager.
+	 *
+	 * @param sourcePathDirectories the source directories that contains the files to compile,
+	 *     or {@code null} for compiling the in-memory stubs.
+	 * @param classPathEntries classpath entries.
+	 * @param modulePathEntries classpath entries.
+	 * @param enableCompilerOutput indicates if the Java compiler output is displayed.
+	 * @param progress monitor of the progress of the compilation.
+	 * @return the success status.
+	 */
+	private CompilerStatus runInMemoryJavaCompiler(Iterable<File> sourcePathDirectories,
+			Iterable<File> classPathEntries, Iterable<File> modulePathEntries, boolean enableCompilerOutput,
+			IProgressMonitor progress) {
+		if (progress.isCanceled()) {
+			return CompilerStatus.CANCELED;
+		}
+		final var errWriter = enableCompilerOutput ? getErrorCompilerOutputWriter() : getDebugCompilerOutputWriter();
+		final var javaVersion = SarlBatchCompilerUtils.parseJavaVersion(getJavaSourceVersion());
+		try {
+			if (sourcePathDirectories == null) {
+				return this.stubFileManager.compileSourceFiles(classPathEntries, modulePathEntries,
+						javaVersion, errWriter, progress);
+			}
+			return this.stubFileManager.compileFiles(sourcePathDirectories, classPathEntries,
+					javaVersion, errWriter, progress);
+		} catch (IOException ex) {
+			getLogger().log(Level.SEVERE, ex.getLocalizedMessage(), ex);
+			return CompilerStatus.COMPILATION_FAILURE;
+		}
+	}
+
 	@SuppressWarnings("resource")
 	private PrintWriter getDebugCompilerOutputWriter() {
 		final var debugWriter = new Writer() {
@@ -1952,11 +2507,17 @@ public class SarlBatchCompiler {
 	 *
 	 * @param resourceSet the input resource set.
 	 * @param progress monitor of the progress of the compilation.
-	 * @return the folder in which the stubs are located. Replies {@code null} if the activity is canceled.
+	 * @return the folder in which the stubs are located. Replies {@code null} if the activity is canceled,
+	 *     or if the stubs are created in memory.
+	 * @see #isInMemoryStubCompilation()
 	 */
 	protected File createStubs(ResourceSet resourceSet, IProgressMonitor progress) {
 		assert progress != null;
 		progress.subTask(Messages.SarlBatchCompiler_53);
+		if (this.stubFileManager != null) {
+			createStubsInMemory(resourceSet, progress);
+			return null;
+		}
 		final var outputDirectory = createTempDir(STUB_FOLDER_PREFIX);
 		if (progress.isCanceled()) {
 			return null;
@@ -1983,6 +2544,29 @@ public class SarlBatchCompiler {
 		return outputDirectory;
 	}
 
+	private void createStubsInMemory(ResourceSet resourceSet, IProgressMonitor progress) {
+		final var fileSystemAccess = new InMemoryFileSystemAccess();
+		final var resources = new ArrayList<>(resourceSet.getResources());
+		for (final var resource : resources) {
+			if (progress.isCanceled()) {
+				return;
+			}
+			if (getLogger().isLoggable(Level.FINEST)) {
+				getLogger().finest(MessageFormat.format(Messages.SarlBatchCompiler_20, resource.getURI()));
+			}
+			final var description = this.resourceDescriptionManager.getResourceDescription(resource);
+			this.stubGenerator.doGenerateStubs(fileSystemAccess, description);
+		}
+		final var prefix = IFileSystemAccess.DEFAULT_OUTPUT;
+		for (final var file : fileSystemAccess.getTextFiles().entrySet()) {
+			var name = file.getKey();
+			if (name.startsWith(prefix)) {
+				name = name.substring(prefix.length());
+			}
+			this.stubFileManager.addSourceFile(name, file.getValue());
+		}
+	}
+
 	/** Load the SARL files in the given resource set.
 	 *
 	 * @param progress monitor of the progress of the compilation.
@@ -2335,6 +2919,9 @@ public class SarlBatchCompiler {
 			return;
 		}
 		this.jvmTypesClassLoader = createClassLoader(classpath, modulepath, parentClassLoader);
+		if (this.stubFileManager != null) {
+			this.jvmTypesClassLoader = this.stubFileManager.createClassLoader(this.jvmTypesClassLoader);
+		}
 		if (progress.isCanceled()) {
 			return;
 		}
@@ -2350,6 +2937,9 @@ public class SarlBatchCompiler {
 		// for annotation processing we need to have the compiler's classpath as a parent.
 		progress.subTask(Messages.SarlBatchCompiler_59);
 		this.annotationProcessingClassLoader = createClassLoader(classpath, modulepath, getCurrentClassLoader());
+		if (this.stubFileManager != null) {
+			this.annotationProcessingClassLoader = this.stubFileManager.createClassLoader(this.annotationProcessingClassLoader);
+		}
 		if (progress.isCanceled()) {
 			return;
 		}
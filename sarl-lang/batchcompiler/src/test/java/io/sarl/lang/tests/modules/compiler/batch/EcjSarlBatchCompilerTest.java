@@ -20,7 +20,11 @@
  */
 package io.sarl.lang.tests.modules.compiler.batch;
 
+import static org.junit.jupiter.api.Assertions.assertSame;
+
 import java.io.File;
+import java.net.URL;
+import java.net.URLClassLoader;
 import java.util.List;
 
 import com.google.inject.Inject;
@@ -28,6 +32,7 @@ import com.google.inject.Provider;
 import org.eclipse.xtext.validation.Issue;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
 
 import io.sarl.lang.compiler.batch.EcjBatchCompiler;
 import io.sarl.lang.compiler.batch.SarlBatchCompiler;
@@ -68,4 +73,17 @@ public class EcjSarlBatchCompilerTest extends AbstractBatchCompilerTest {
 		return compiler.compile();
 	}
 
+	@Test
+	@DisplayName("Current class loader")
+	public void testCurrentClassLoader() throws Exception {
+		var compiler = this.compilerProvider.get();
+		assertSame(compiler.getClass().getClassLoader(), compiler.getCurrentClassLoader());
+		try (var loader = new URLClassLoader(new URL[0], getClass().getClassLoader())) {
+			compiler.setCurrentClassLoader(loader);
+			assertSame(loader, compiler.getCurrentClassLoader());
+		}
+		compiler.setCurrentClassLoader(null);
+		assertSame(compiler.getClass().getClassLoader(), compiler.getCurrentClassLoader());
+	}
+
 }
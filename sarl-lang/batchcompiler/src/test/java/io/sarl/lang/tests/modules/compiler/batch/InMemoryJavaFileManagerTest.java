@@ -0,0 +1,93 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2025 SARL.io, the Original Authors and Main Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sarl.lang.tests.modules.compiler.batch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.Collections;
+
+import javax.tools.ToolProvider;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import io.sarl.lang.compiler.batch.CompilerStatus;
+import io.sarl.lang.compiler.batch.InMemoryJavaFileManager;
+import io.sarl.lang.compiler.batch.SarlBatchCompilerUtils;
+import io.sarl.lang.core.SARLVersion;
+
+/**
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ */
+@SuppressWarnings("all")
+@DisplayName("InMemoryJavaFileManager")
+@Tag("core")
+@Tag("compiler-run")
+public class InMemoryJavaFileManagerTest {
+
+	private static CompilerStatus compile(InMemoryJavaFileManager manager) throws Exception {
+		return manager.compileSourceFiles(Collections.emptyList(), Collections.emptyList(),
+				SarlBatchCompilerUtils.parseJavaVersion(SARLVersion.MINIMAL_JDK_VERSION_IN_SARL_PROJECT_CLASSPATH),
+				new PrintWriter(new StringWriter()), new NullProgressMonitor());
+	}
+
+	@Test
+	public void compileSourceFiles_nothing() throws Exception {
+		try (var manager = new InMemoryJavaFileManager(ToolProvider.getSystemJavaCompiler(), null)) {
+			assertEquals(CompilerStatus.NOTHING_TO_COMPILE, compile(manager));
+		}
+	}
+
+	@Test
+	public void compileSourceFiles_loadClass() throws Exception {
+		try (var manager = new InMemoryJavaFileManager(ToolProvider.getSystemJavaCompiler(), null)) {
+			manager.addSourceFile("/a/b/C.java", "package a.b; public class C { public static class D { } }");
+			manager.addSourceFile("a/b/E.java", "package a.b; public class E extends C { }");
+			assertEquals(CompilerStatus.COMPILATION_SUCCESS, compile(manager));
+			assertEquals(2, manager.getSourceFileCount());
+			assertEquals(3, manager.getClassFileCount());
+			assertNotNull(manager.getClassBytes("a.b.C$D"));
+			assertNull(manager.getClassBytes("a.b.F"));
+			final var loader = manager.createClassLoader(getClass().getClassLoader());
+			final var type = loader.loadClass("a.b.E");
+			assertEquals(loader.loadClass("a.b.C"), type.getSuperclass());
+			assertNotNull(loader.getResource("a/b/C$D.class"));
+		}
+	}
+
+	@Test
+	public void compileSourceFiles_error() throws Exception {
+		try (var manager = new InMemoryJavaFileManager(ToolProvider.getSystemJavaCompiler(), null)) {
+			manager.addSourceFile("a/b/C.java", "package a.b; public class C extends Unknown { }");
+			assertEquals(CompilerStatus.COMPILATION_FAILURE, compile(manager));
+		}
+	}
+
+}
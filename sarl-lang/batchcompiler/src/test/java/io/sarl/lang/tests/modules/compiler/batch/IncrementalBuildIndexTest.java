@@ -0,0 +1,110 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2025 SARL.io, the Original Authors and Main Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sarl.lang.tests.modules.compiler.batch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.sarl.lang.compiler.batch.IncrementalBuildIndex;
+
+/**
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ */
+@SuppressWarnings("all")
+@DisplayName("IncrementalBuildIndex")
+@Tag("core")
+public class IncrementalBuildIndexTest {
+
+	@TempDir
+	File tempDirectory;
+
+	private static Set<String> names(String... names) {
+		return new TreeSet<>(Arrays.asList(names));
+	}
+
+	private static IncrementalBuildIndex createIndex() {
+		final var index = new IncrementalBuildIndex("config");
+		index.putEntry("file:/a.sarl", new IncrementalBuildIndex.Entry("c1", "s1",
+				names("a.a1", "a.a2"), Collections.emptySet(), names("/gen/a/A1.java", "/gen/a/A2.java")));
+		index.putEntry("file:/b.sarl", new IncrementalBuildIndex.Entry("c2", "s2",
+				names("b.b"), names("a.a1", "java.lang.string"), names("/gen folder/b/B.java", "/gen folder/b/.B.java._trace")));
+		index.putEntry("file:/c.sarl", new IncrementalBuildIndex.Entry("c3", "s3",
+				names("c.c"), names("b.b"), Collections.emptySet()));
+		return index;
+	}
+
+	@Test
+	public void getDependentResources() {
+		final var index = createIndex();
+		assertEquals(names("file:/b.sarl"), index.getDependentResources(names("a.a1")));
+		assertEquals(names(), index.getDependentResources(names("a.a2")));
+		assertEquals(names("file:/b.sarl", "file:/c.sarl"), index.getDependentResources(names("a.a1", "b.b")));
+		assertEquals(names(), index.getDependentResources(names()));
+	}
+
+	@Test
+	public void writeRead() throws Exception {
+		final var file = new File(this.tempDirectory, IncrementalBuildIndex.DEFAULT_FILENAME);
+		final var index = createIndex();
+		index.write(file);
+		final var readIndex = IncrementalBuildIndex.read(file, "config");
+		assertNotNull(readIndex);
+		assertEquals(index.getResourceURIs(), readIndex.getResourceURIs());
+		for (final var uri : index.getResourceURIs()) {
+			assertEquals(index.getEntry(uri), readIndex.getEntry(uri));
+		}
+	}
+
+	@Test
+	public void read_otherConfiguration() throws Exception {
+		final var file = new File(this.tempDirectory, IncrementalBuildIndex.DEFAULT_FILENAME);
+		createIndex().write(file);
+		assertNull(IncrementalBuildIndex.read(file, "otherConfig"));
+	}
+
+	@Test
+	public void read_noFile() throws Exception {
+		assertNull(IncrementalBuildIndex.read(new File(this.tempDirectory, "unknown"), "config"));
+	}
+
+	@Test
+	public void computeHash() {
+		assertEquals(IncrementalBuildIndex.computeHash("abc"), IncrementalBuildIndex.computeHash("abc"));
+		assertNotEquals(IncrementalBuildIndex.computeHash("abc"), IncrementalBuildIndex.computeHash("abd"));
+	}
+
+}
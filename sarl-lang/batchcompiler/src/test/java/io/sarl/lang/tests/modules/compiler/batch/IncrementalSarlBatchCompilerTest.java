@@ -0,0 +1,170 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2025 SARL.io, the Original Authors and Main Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sarl.lang.tests.modules.compiler.batch;
+
+import static io.sarl.tests.api.tools.TestUtils.multilineString;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+
+import com.google.common.io.Files;
+import com.google.inject.Inject;
+import com.google.inject.Provider;
+import org.arakhne.afc.vmutil.FileSystem;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import io.sarl.lang.compiler.batch.EcjBatchCompiler;
+import io.sarl.lang.compiler.batch.SarlBatchCompiler;
+import io.sarl.lang.tests.api.AbstractSarlTest;
+
+/** Check that the incremental compilation deletes the files that are not generated anymore.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ */
+@SuppressWarnings("all")
+@DisplayName("SarlBatchCompiler with incremental compilation")
+@Tag("core")
+@Tag("compiler-run")
+public class IncrementalSarlBatchCompilerTest extends AbstractSarlTest {
+
+	private static final String SARL_CODE_A = multilineString(
+			"package io.sarl.lang.tests.compiler.batch",
+			"class MyClassA {",
+			"  def run : int {",
+			"    1",
+			"  }",
+			"}");
+
+	private static final String SARL_CODE_B = multilineString(
+			"package io.sarl.lang.tests.compiler.batch",
+			"class MyClassB {",
+			"  def run : int {",
+			"    2",
+			"  }",
+			"}");
+
+	@Inject
+	private Provider<SarlBatchCompiler> compilerProvider;
+
+	private File tempDirectory;
+
+	private File sourceDirectory;
+
+	private File sarlcOutputDirectory;
+
+	private File javacOutputDirectory;
+
+	@BeforeEach
+	public void setUp() throws Exception {
+		this.tempDirectory = FileSystem.createTempDirectory("sarltests_" + getClass().getSimpleName() + "_", "tmp");
+		this.sourceDirectory = new File(this.tempDirectory, "src");
+		this.sourceDirectory.mkdirs();
+		this.sarlcOutputDirectory = new File(this.tempDirectory, "src-gen");
+		this.sarlcOutputDirectory.mkdirs();
+		this.javacOutputDirectory = new File(this.tempDirectory, "bin");
+		this.javacOutputDirectory.mkdirs();
+	}
+
+	@AfterEach
+	public void tearDown() throws Exception {
+		FileSystem.delete(this.tempDirectory);
+	}
+
+	private void compile() {
+		final var buildDirectory = new File(this.tempDirectory, "build");
+		buildDirectory.mkdirs();
+		var compiler = this.compilerProvider.get();
+		compiler.setBasePath(this.tempDirectory.getAbsolutePath());
+		compiler.setSourcePath(this.sourceDirectory.getAbsolutePath());
+		compiler.setOutputPath(this.sarlcOutputDirectory);
+		compiler.setClassOutputPath(this.javacOutputDirectory);
+		compiler.setTempDirectory(buildDirectory);
+		compiler.setJavaCompilerVerbose(false);
+		compiler.setGenerateInlineAnnotation(false);
+		compiler.setReportInternalProblemsAsIssues(true);
+		compiler.setIncrementalCompilation(true);
+		compiler.setJavaCompiler(new EcjBatchCompiler());
+		assertTrue(compiler.compile(), "Unexpected return status for the batch compiler");
+	}
+
+	private File getOutputFile(File root, String name) {
+		return new File(new File(root, "io/sarl/lang/tests/compiler/batch"), name);
+	}
+
+	@Test
+	@DisplayName("Removed SARL file")
+	public void removedFile() throws Exception {
+		final var fileA = new File(this.sourceDirectory, "a.sarl");
+		Files.write(SARL_CODE_A.getBytes(), fileA);
+		Files.write(SARL_CODE_B.getBytes(), new File(this.sourceDirectory, "b.sarl"));
+		compile();
+		assertTrue(getOutputFile(this.sarlcOutputDirectory, "MyClassA.java").isFile());
+		assertTrue(getOutputFile(this.sarlcOutputDirectory, ".MyClassA.java._trace").isFile());
+		assertTrue(getOutputFile(this.javacOutputDirectory, "MyClassA.class").isFile());
+
+		assertTrue(fileA.delete());
+		compile();
+		assertFalse(getOutputFile(this.sarlcOutputDirectory, "MyClassA.java").exists());
+		assertFalse(getOutputFile(this.sarlcOutputDirectory, ".MyClassA.java._trace").exists());
+		assertFalse(getOutputFile(this.javacOutputDirectory, "MyClassA.class").exists());
+		assertTrue(getOutputFile(this.sarlcOutputDirectory, "MyClassB.java").isFile());
+		assertTrue(getOutputFile(this.javacOutputDirectory, "MyClassB.class").isFile());
+	}
+
+	@Test
+	@DisplayName("Renamed SARL file")
+	public void renamedFile() throws Exception {
+		final var fileA = new File(this.sourceDirectory, "a.sarl");
+		Files.write(SARL_CODE_A.getBytes(), fileA);
+		compile();
+		assertTrue(getOutputFile(this.sarlcOutputDirectory, "MyClassA.java").isFile());
+
+		assertTrue(fileA.renameTo(new File(this.sourceDirectory, "c.sarl")));
+		compile();
+		assertTrue(getOutputFile(this.sarlcOutputDirectory, "MyClassA.java").isFile());
+		assertTrue(getOutputFile(this.sarlcOutputDirectory, ".MyClassA.java._trace").isFile());
+		assertTrue(getOutputFile(this.javacOutputDirectory, "MyClassA.class").isFile());
+	}
+
+	@Test
+	@DisplayName("Renamed SARL type")
+	public void renamedType() throws Exception {
+		final var fileA = new File(this.sourceDirectory, "a.sarl");
+		Files.write(SARL_CODE_A.getBytes(), fileA);
+		compile();
+		assertTrue(getOutputFile(this.sarlcOutputDirectory, "MyClassA.java").isFile());
+
+		Files.write(SARL_CODE_B.getBytes(), fileA);
+		compile();
+		assertFalse(getOutputFile(this.sarlcOutputDirectory, "MyClassA.java").exists());
+		assertFalse(getOutputFile(this.javacOutputDirectory, "MyClassA.class").exists());
+		assertTrue(getOutputFile(this.sarlcOutputDirectory, "MyClassB.java").isFile());
+	}
+
+}
@@ -67,6 +67,7 @@ public class Bug553Test extends AbstractSarlTest {
 			"import io.sarl.lang.core.annotation.SarlSpecification;",
 			"import io.sarl.lang.core.annotation.SyntheticMember;",
 			"import io.sarl.lang.core.scoping.extensions.time.TimeExtensions;",
+			"import io.sarl.lang.core.util.EventTypeIndex;",
 			"import jakarta.inject.Inject;",
 			"import java.util.Collection;",
 			"import java.util.Set;",
@@ -91,19 +92,19 @@ public class Bug553Test extends AbstractSarlTest {
 			"  }",
 			"  ",
 			"  @SyntheticMember",
+			"  private static final EventTypeIndex $EVENT_TYPE_INDEX = new EventTypeIndex(MyEvent.class);",
+			"  ",
+			"  @SyntheticMember",
 			"  @Override",
 			"  public void $getSupportedEvents(final Set<Class<? extends Event>> toBeFilled) {",
 			"    super.$getSupportedEvents(toBeFilled);",
-			"    toBeFilled.add(MyEvent.class);",
+			"    toBeFilled.addAll($EVENT_TYPE_INDEX.getEventTypes());",
 			"  }",
 			"  ",
 			"  @SyntheticMember",
 			"  @Override",
-			"  public boolean $isSupportedEvent(final Class<? extends Event> event) {", 
-			"    if (MyEvent.class.isAssignableFrom(event)) {",
-			"      return true;",
-			"    }",
-			"    return false;", 
+			"  public boolean $isSupportedEvent(final Class<? extends Event> event) {",
+			"    return $EVENT_TYPE_INDEX.isSupported(event);",
 			"  }",
 			"  ",
 			"  @SyntheticMember",
@@ -112,9 +113,11 @@ public class Bug553Test extends AbstractSarlTest {
 			"    assert eventType != null;",
 			"    assert event != null;",
 			"    super.$evaluateBehaviorGuards(eventType, event, callbacks);",
-			"    if (MyEvent.class.equals(eventType)) {",
-			"      final var occurrence = (MyEvent) event;",
-			"      $guardEvaluator$MyEvent(occurrence, callbacks);",
+			"    switch ($EVENT_TYPE_INDEX.indexOf(eventType)) {",
+			"      case 0 -> {",
+			"        final var occurrence = (MyEvent) event;",
+			"        $guardEvaluator$MyEvent(occurrence, callbacks);",
+			"      }",
 			"    }",
 			"  }",
 			"  ",
@@ -81,6 +81,7 @@ public class Bug851Test extends AbstractSarlTest {
 			"import io.sarl.lang.core.annotation.SarlElementType;",
 			"import io.sarl.lang.core.annotation.SarlSpecification;",
 			"import io.sarl.lang.core.annotation.SyntheticMember;",
+			"import io.sarl.lang.core.util.EventTypeIndex;",
 			"import jakarta.inject.Inject;",
 			"import java.util.Collection;",
 			"import java.util.Map;",
@@ -110,19 +111,19 @@ public class Bug851Test extends AbstractSarlTest {
 			"  }",
 			"  ",
 			"  @SyntheticMember",
+			"  private static final EventTypeIndex $EVENT_TYPE_INDEX = new EventTypeIndex(CarArrivedPercept.class);",
+			"  ",
+			"  @SyntheticMember",
 			"  @Override",
 			"  public void $getSupportedEvents(final Set<Class<? extends Event>> toBeFilled) {",
 			"    super.$getSupportedEvents(toBeFilled);",
-			"    toBeFilled.add(CarArrivedPercept.class);",
+			"    toBeFilled.addAll($EVENT_TYPE_INDEX.getEventTypes());",
 			"  }",
 			"  ",
 			"  @SyntheticMember",
 			"  @Override",
-			"  public boolean $isSupportedEvent(final Class<? extends Event> event) {", 
-			"    if (CarArrivedPercept.class.isAssignableFrom(event)) {",
-			"      return true;",
-			"    }",
-			"    return false;", 
+			"  public boolean $isSupportedEvent(final Class<? extends Event> event) {",
+			"    return $EVENT_TYPE_INDEX.isSupported(event);",
 			"  }",
 			"  ",
 			"  @SyntheticMember",
@@ -131,9 +132,11 @@ public class Bug851Test extends AbstractSarlTest {
 			"    assert eventType != null;",
 			"    assert event != null;",
 			"    super.$evaluateBehaviorGuards(eventType, event, callbacks);",
-			"    if (CarArrivedPercept.class.equals(eventType)) {",
-			"      final var occurrence = (CarArrivedPercept) event;",
-			"      $guardEvaluator$CarArrivedPercept(occurrence, callbacks);",
+			"    switch ($EVENT_TYPE_INDEX.indexOf(eventType)) {",
+			"      case 0 -> {",
+			"        final var occurrence = (CarArrivedPercept) event;",
+			"        $guardEvaluator$CarArrivedPercept(occurrence, callbacks);",
+			"      }",
 			"    }",
 			"  }",
 			"  ",
@@ -194,6 +197,7 @@ public class Bug851Test extends AbstractSarlTest {
 			"import io.sarl.lang.core.annotation.SarlElementType;",
 			"import io.sarl.lang.core.annotation.SarlSpecification;",
 			"import io.sarl.lang.core.annotation.SyntheticMember;",
+			"import io.sarl.lang.core.util.EventTypeIndex;",
 			"import jakarta.inject.Inject;",
 			"import java.util.Collection;",
 			"import java.util.Map;",
@@ -228,19 +232,19 @@ public class Bug851Test extends AbstractSarlTest {
 			"  }",
 			"  ",
 			"  @SyntheticMember",
+			"  private static final EventTypeIndex $EVENT_TYPE_INDEX = new EventTypeIndex(CarArrivedPercept.class);",
+			"  ",
+			"  @SyntheticMember",
 			"  @Override",
 			"  public void $getSupportedEvents(final Set<Class<? extends Event>> toBeFilled) {",
 			"    super.$getSupportedEvents(toBeFilled);",
-			"    toBeFilled.add(CarArrivedPercept.class);",
+			"    toBeFilled.addAll($EVENT_TYPE_INDEX.getEventTypes());",
 			"  }",
 			"  ",
 			"  @SyntheticMember",
 			"  @Override",
-			"  public boolean $isSupportedEvent(final Class<? extends Event> event) {", 
-			"    if (CarArrivedPercept.class.isAssignableFrom(event)) {",
-			"      return true;",
-			"    }",
-			"    return false;", 
+			"  public boolean $isSupportedEvent(final Class<? extends Event> event) {",
+			"    return $EVENT_TYPE_INDEX.isSupported(event);",
 			"  }",
 			"  ",
 			"  @SyntheticMember",
@@ -249,9 +253,11 @@ public class Bug851Test extends AbstractSarlTest {
 			"    assert eventType != null;",
 			"    assert event != null;",
 			"    super.$evaluateBehaviorGuards(eventType, event, callbacks);",
-			"    if (CarArrivedPercept.class.equals(eventType)) {",
-			"      final var occurrence = (CarArrivedPercept) event;",
-			"      $guardEvaluator$CarArrivedPercept(occurrence, callbacks);",
+			"    switch ($EVENT_TYPE_INDEX.indexOf(eventType)) {",
+			"      case 0 -> {",
+			"        final var occurrence = (CarArrivedPercept) event;",
+			"        $guardEvaluator$CarArrivedPercept(occurrence, callbacks);",
+			"      }",
 			"    }",
 			"  }",
 			"  ",
@@ -82,6 +82,7 @@ public class Bug1098Test extends AbstractSarlTest {
 			"import io.sarl.lang.core.annotation.SarlSpecification;",
 			"import io.sarl.lang.core.annotation.SyntheticMember;",
 			"import io.sarl.lang.core.scoping.extensions.cast.PrimitiveCastExtensions;",
+			"import io.sarl.lang.core.util.EventTypeIndex;",
 			"import jakarta.inject.Inject;",
 			"import java.util.Collection;",
 			"import java.util.Objects;",
@@ -113,19 +114,19 @@ public class Bug1098Test extends AbstractSarlTest {
 			"  }",
 			"",
 			"  @SyntheticMember",
+			"  private static final EventTypeIndex $EVENT_TYPE_INDEX = new EventTypeIndex(Initialize.class);",
+			"",
+			"  @SyntheticMember",
 			"  @Override",
 			"  public void $getSupportedEvents(final Set<Class<? extends Event>> toBeFilled) {",
 			"    super.$getSupportedEvents(toBeFilled);",
-			"    toBeFilled.add(Initialize.class);",
+			"    toBeFilled.addAll($EVENT_TYPE_INDEX.getEventTypes());",
 			"  }",
 			"",
 			"  @SyntheticMember",
 			"  @Override",
 			"  public boolean $isSupportedEvent(final Class<? extends Event> event) {",
-			"    if (Initialize.class.isAssignableFrom(event)) {",
-			"      return true;",
-			"    }",
-			"    return false;",
+			"    return $EVENT_TYPE_INDEX.isSupported(event);",
 			"  }",
 			"",
 			"  @SyntheticMember",
@@ -134,9 +135,11 @@ public class Bug1098Test extends AbstractSarlTest {
 			"    assert eventType != null;",
 			"    assert event != null;",
 			"    super.$evaluateBehaviorGuards(eventType, event, callbacks);",
-			"    if (Initialize.class.equals(eventType)) {",
-			"      final var occurrence = (Initialize) event;",
-			"      $guardEvaluator$Initialize(occurrence, callbacks);",
+			"    switch ($EVENT_TYPE_INDEX.indexOf(eventType)) {",
+			"      case 0 -> {",
+			"        final var occurrence = (Initialize) event;",
+			"        $guardEvaluator$Initialize(occurrence, callbacks);",
+			"      }",
 			"    }",
 			"  }",
 			"",
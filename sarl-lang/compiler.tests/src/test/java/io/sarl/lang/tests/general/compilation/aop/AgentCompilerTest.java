@@ -116,6 +116,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"import io.sarl.lang.core.annotation.SarlElementType;",
 				"import io.sarl.lang.core.annotation.SarlSpecification;",
 				"import io.sarl.lang.core.annotation.SyntheticMember;",
+				"import io.sarl.lang.core.util.EventTypeIndex;",
 				"import jakarta.inject.Inject;",
 				"import java.util.Collection;",
 				"import java.util.Set;",
@@ -140,19 +141,19 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"  }",
 				"  ",
 				"  @SyntheticMember",
+				"  private static final EventTypeIndex $EVENT_TYPE_INDEX = new EventTypeIndex(E1.class);",
+				"  ",
+				"  @SyntheticMember",
 				"  @Override",
 				"  public void $getSupportedEvents(final Set<Class<? extends Event>> toBeFilled) {",
 				"    super.$getSupportedEvents(toBeFilled);",
-				"    toBeFilled.add(E1.class);",
+				"    toBeFilled.addAll($EVENT_TYPE_INDEX.getEventTypes());",
 				"  }",
 				"  ",
 				"  @SyntheticMember",
 				"  @Override",
-				"  public boolean $isSupportedEvent(final Class<? extends Event> event) {", 
-				"    if (E1.class.isAssignableFrom(event)) {",
-				"      return true;",
-				"    }",
-				"    return false;", 
+				"  public boolean $isSupportedEvent(final Class<? extends Event> event) {",
+				"    return $EVENT_TYPE_INDEX.isSupported(event);",
 				"  }",
 				"  ",
 				"  @SyntheticMember",
@@ -161,9 +162,11 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"    assert eventType != null;",
 				"    assert event != null;",
 				"    super.$evaluateBehaviorGuards(eventType, event, callbacks);",
-				"    if (E1.class.equals(eventType)) {",
-				"      final var occurrence = (E1) event;",
-				"      $guardEvaluator$E1(occurrence, callbacks);",
+				"    switch ($EVENT_TYPE_INDEX.indexOf(eventType)) {",
+				"      case 0 -> {",
+				"        final var occurrence = (E1) event;",
+				"        $guardEvaluator$E1(occurrence, callbacks);",
+				"      }",
 				"    }",
 				"  }",
 				"  ",
@@ -344,6 +347,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"import io.sarl.lang.core.annotation.SarlElementType;",
 				"import io.sarl.lang.core.annotation.SarlSpecification;",
 				"import io.sarl.lang.core.annotation.SyntheticMember;",
+				"import io.sarl.lang.core.util.EventTypeIndex;",
 				"import jakarta.inject.Inject;",
 				"import java.util.Collection;",
 				"import java.util.Set;",
@@ -376,19 +380,19 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"  }",
 				"  ",
 				"  @SyntheticMember",
+				"  private static final EventTypeIndex $EVENT_TYPE_INDEX = new EventTypeIndex(E1.class);",
+				"  ",
+				"  @SyntheticMember",
 				"  @Override",
 				"  public void $getSupportedEvents(final Set<Class<? extends Event>> toBeFilled) {",
 				"    super.$getSupportedEvents(toBeFilled);",
-				"    toBeFilled.add(E1.class);",
+				"    toBeFilled.addAll($EVENT_TYPE_INDEX.getEventTypes());",
 				"  }",
 				"  ",
 				"  @SyntheticMember",
 				"  @Override",
-				"  public boolean $isSupportedEvent(final Class<? extends Event> event) {", 
-				"    if (E1.class.isAssignableFrom(event)) {",
-				"      return true;",
-				"    }",
-				"    return false;", 
+				"  public boolean $isSupportedEvent(final Class<? extends Event> event) {",
+				"    return $EVENT_TYPE_INDEX.isSupported(event);",
 				"  }",
 				"  ",
 				"  @SyntheticMember",
@@ -397,9 +401,11 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"    assert eventType != null;",
 				"    assert event != null;",
 				"    super.$evaluateBehaviorGuards(eventType, event, callbacks);",
-				"    if (E1.class.equals(eventType)) {",
-				"      final var occurrence = (E1) event;",
-				"      $guardEvaluator$E1(occurrence, callbacks);",
+				"    switch ($EVENT_TYPE_INDEX.indexOf(eventType)) {",
+				"      case 0 -> {",
+				"        final var occurrence = (E1) event;",
+				"        $guardEvaluator$E1(occurrence, callbacks);",
+				"      }",
 				"    }",
 				"  }",
 				"  ",
@@ -2286,6 +2292,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"import io.sarl.lang.core.annotation.SarlElementType;",
 				"import io.sarl.lang.core.annotation.SarlSpecification;",
 				"import io.sarl.lang.core.annotation.SyntheticMember;",
+				"import io.sarl.lang.core.util.EventTypeIndex;",
 				"import jakarta.inject.Inject;",
 				"import java.util.Collection;",
 				"import java.util.Set;",
@@ -2334,19 +2341,19 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"  }",
 				"  ",
 				"  @SyntheticMember",
+				"  private static final EventTypeIndex $EVENT_TYPE_INDEX = new EventTypeIndex(Initialize.class);",
+				"  ",
+				"  @SyntheticMember",
 				"  @Override",
 				"  public void $getSupportedEvents(final Set<Class<? extends Event>> toBeFilled) {",
 				"    super.$getSupportedEvents(toBeFilled);",
-				"    toBeFilled.add(Initialize.class);",
+				"    toBeFilled.addAll($EVENT_TYPE_INDEX.getEventTypes());",
 				"  }",
 				"  ",
 				"  @SyntheticMember",
 				"  @Override",
-				"  public boolean $isSupportedEvent(final Class<? extends Event> event) {", 
-				"    if (Initialize.class.isAssignableFrom(event)) {",
-				"      return true;",
-				"    }",
-				"    return false;", 
+				"  public boolean $isSupportedEvent(final Class<? extends Event> event) {",
+				"    return $EVENT_TYPE_INDEX.isSupported(event);",
 				"  }",
 				"  ",
 				"  @SyntheticMember",
@@ -2355,9 +2362,11 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"    assert eventType != null;",
 				"    assert event != null;",
 				"    super.$evaluateBehaviorGuards(eventType, event, callbacks);",
-				"    if (Initialize.class.equals(eventType)) {",
-				"      final var occurrence = (Initialize) event;",
-				"      $guardEvaluator$Initialize(occurrence, callbacks);",
+				"    switch ($EVENT_TYPE_INDEX.indexOf(eventType)) {",
+				"      case 0 -> {",
+				"        final var occurrence = (Initialize) event;",
+				"        $guardEvaluator$Initialize(occurrence, callbacks);",
+				"      }",
 				"    }",
 				"  }",
 				"  ",
@@ -2399,6 +2408,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"import io.sarl.lang.core.annotation.SarlElementType;",
 				"import io.sarl.lang.core.annotation.SarlSpecification;",
 				"import io.sarl.lang.core.annotation.SyntheticMember;",
+				"import io.sarl.lang.core.util.EventTypeIndex;",
 				"import jakarta.inject.Inject;",
 				"import java.util.Collection;",
 				"import java.util.Set;",
@@ -2433,23 +2443,19 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"  }",
 				"  ",
 				"  @SyntheticMember",
+				"  private static final EventTypeIndex $EVENT_TYPE_INDEX = new EventTypeIndex(Destroy.class, Initialize.class);",
+				"  ",
+				"  @SyntheticMember",
 				"  @Override",
 				"  public void $getSupportedEvents(final Set<Class<? extends Event>> toBeFilled) {",
 				"    super.$getSupportedEvents(toBeFilled);",
-				"    toBeFilled.add(Destroy.class);",
-				"    toBeFilled.add(Initialize.class);",
+				"    toBeFilled.addAll($EVENT_TYPE_INDEX.getEventTypes());",
 				"  }",
 				"  ",
 				"  @SyntheticMember",
 				"  @Override",
-				"  public boolean $isSupportedEvent(final Class<? extends Event> event) {", 
-				"    if (Destroy.class.isAssignableFrom(event)) {",
-				"      return true;",
-				"    }",
-				"    if (Initialize.class.isAssignableFrom(event)) {",
-				"      return true;",
-				"    }",
-				"    return false;", 
+				"  public boolean $isSupportedEvent(final Class<? extends Event> event) {",
+				"    return $EVENT_TYPE_INDEX.isSupported(event);",
 				"  }",
 				"  ",
 				"  @SyntheticMember",
@@ -2458,13 +2464,15 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"    assert eventType != null;",
 				"    assert event != null;",
 				"    super.$evaluateBehaviorGuards(eventType, event, callbacks);",
-				"    if (Destroy.class.equals(eventType)) {",
-				"      final var occurrence = (Destroy) event;",
-				"      $guardEvaluator$Destroy(occurrence, callbacks);",
-				"    }",
-				"    if (Initialize.class.equals(eventType)) {",
-				"      final var occurrence = (Initialize) event;",
-				"      $guardEvaluator$Initialize(occurrence, callbacks);",
+				"    switch ($EVENT_TYPE_INDEX.indexOf(eventType)) {",
+				"      case 0 -> {",
+				"        final var occurrence = (Destroy) event;",
+				"        $guardEvaluator$Destroy(occurrence, callbacks);",
+				"      }",
+				"      case 1 -> {",
+				"        final var occurrence = (Initialize) event;",
+				"        $guardEvaluator$Initialize(occurrence, callbacks);",
+				"      }",
 				"    }",
 				"  }",
 				"  ",
@@ -2510,6 +2518,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"import io.sarl.lang.core.annotation.SarlElementType;",
 				"import io.sarl.lang.core.annotation.SarlSpecification;",
 				"import io.sarl.lang.core.annotation.SyntheticMember;",
+				"import io.sarl.lang.core.util.EventTypeIndex;",
 				"import jakarta.inject.Inject;",
 				"import java.util.Collection;",
 				"import java.util.Set;",
@@ -2551,23 +2560,19 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"  }",
 				"  ",
 				"  @SyntheticMember",
+				"  private static final EventTypeIndex $EVENT_TYPE_INDEX = new EventTypeIndex(Destroy.class, Initialize.class);",
+				"  ",
+				"  @SyntheticMember",
 				"  @Override",
 				"  public void $getSupportedEvents(final Set<Class<? extends Event>> toBeFilled) {",
 				"    super.$getSupportedEvents(toBeFilled);",
-				"    toBeFilled.add(Destroy.class);",
-				"    toBeFilled.add(Initialize.class);",
+				"    toBeFilled.addAll($EVENT_TYPE_INDEX.getEventTypes());",
 				"  }",
 				"  ",
 				"  @SyntheticMember",
 				"  @Override",
-				"  public boolean $isSupportedEvent(final Class<? extends Event> event) {", 
-				"    if (Destroy.class.isAssignableFrom(event)) {",
-				"      return true;",
-				"    }",
-				"    if (Initialize.class.isAssignableFrom(event)) {",
-				"      return true;",
-				"    }",
-				"    return false;", 
+				"  public boolean $isSupportedEvent(final Class<? extends Event> event) {",
+				"    return $EVENT_TYPE_INDEX.isSupported(event);",
 				"  }",
 				"  ",
 				"  @SyntheticMember",
@@ -2576,13 +2581,15 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"    assert eventType != null;",
 				"    assert event != null;",
 				"    super.$evaluateBehaviorGuards(eventType, event, callbacks);",
-				"    if (Destroy.class.equals(eventType)) {",
-				"      final var occurrence = (Destroy) event;",
-				"      $guardEvaluator$Destroy(occurrence, callbacks);",
-				"    }",
-				"    if (Initialize.class.equals(eventType)) {",
-				"      final var occurrence = (Initialize) event;",
-				"      $guardEvaluator$Initialize(occurrence, callbacks);",
+				"    switch ($EVENT_TYPE_INDEX.indexOf(eventType)) {",
+				"      case 0 -> {",
+				"        final var occurrence = (Destroy) event;",
+				"        $guardEvaluator$Destroy(occurrence, callbacks);",
+				"      }",
+				"      case 1 -> {",
+				"        final var occurrence = (Initialize) event;",
+				"        $guardEvaluator$Initialize(occurrence, callbacks);",
+				"      }",
 				"    }",
 				"  }",
 				"  ",
@@ -2629,6 +2636,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"import io.sarl.lang.core.annotation.SarlElementType;",
 				"import io.sarl.lang.core.annotation.SarlSpecification;",
 				"import io.sarl.lang.core.annotation.SyntheticMember;",
+				"import io.sarl.lang.core.util.EventTypeIndex;",
 				"import jakarta.inject.Inject;",
 				"import java.util.Collection;",
 				"import java.util.Set;",
@@ -2687,23 +2695,19 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"  }",
 				"  ",
 				"  @SyntheticMember",
+				"  private static final EventTypeIndex $EVENT_TYPE_INDEX = new EventTypeIndex(Destroy.class, Initialize.class);",
+				"  ",
+				"  @SyntheticMember",
 				"  @Override",
 				"  public void $getSupportedEvents(final Set<Class<? extends Event>> toBeFilled) {",
 				"    super.$getSupportedEvents(toBeFilled);",
-				"    toBeFilled.add(Destroy.class);",
-				"    toBeFilled.add(Initialize.class);",
+				"    toBeFilled.addAll($EVENT_TYPE_INDEX.getEventTypes());",
 				"  }",
 				"  ",
 				"  @SyntheticMember",
 				"  @Override",
-				"  public boolean $isSupportedEvent(final Class<? extends Event> event) {", 
-				"    if (Destroy.class.isAssignableFrom(event)) {",
-				"      return true;",
-				"    }",
-				"    if (Initialize.class.isAssignableFrom(event)) {",
-				"      return true;",
-				"    }",
-				"    return false;", 
+				"  public boolean $isSupportedEvent(final Class<? extends Event> event) {",
+				"    return $EVENT_TYPE_INDEX.isSupported(event);",
 				"  }",
 				"  ",
 				"  @SyntheticMember",
@@ -2712,13 +2716,15 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"    assert eventType != null;",
 				"    assert event != null;",
 				"    super.$evaluateBehaviorGuards(eventType, event, callbacks);",
-				"    if (Destroy.class.equals(eventType)) {",
-				"      final var occurrence = (Destroy) event;",
-				"      $guardEvaluator$Destroy(occurrence, callbacks);",
-				"    }",
-				"    if (Initialize.class.equals(eventType)) {",
-				"      final var occurrence = (Initialize) event;",
-				"      $guardEvaluator$Initialize(occurrence, callbacks);",
+				"    switch ($EVENT_TYPE_INDEX.indexOf(eventType)) {",
+				"      case 0 -> {",
+				"        final var occurrence = (Destroy) event;",
+				"        $guardEvaluator$Destroy(occurrence, callbacks);",
+				"      }",
+				"      case 1 -> {",
+				"        final var occurrence = (Initialize) event;",
+				"        $guardEvaluator$Initialize(occurrence, callbacks);",
+				"      }",
 				"    }",
 				"  }",
 				"  ",
@@ -2795,6 +2801,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"import io.sarl.lang.core.annotation.SarlElementType;",
 				"import io.sarl.lang.core.annotation.SarlSpecification;",
 				"import io.sarl.lang.core.annotation.SyntheticMember;",
+				"import io.sarl.lang.core.util.EventTypeIndex;",
 				"import jakarta.inject.Inject;",
 				"import java.util.Collection;",
 				"import java.util.Set;",
@@ -2866,23 +2873,19 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"  }",
 				"  ",
 				"  @SyntheticMember",
+				"  private static final EventTypeIndex $EVENT_TYPE_INDEX = new EventTypeIndex(Destroy.class, Initialize.class);",
+				"  ",
+				"  @SyntheticMember",
 				"  @Override",
 				"  public void $getSupportedEvents(final Set<Class<? extends Event>> toBeFilled) {",
 				"    super.$getSupportedEvents(toBeFilled);",
-				"    toBeFilled.add(Destroy.class);",
-				"    toBeFilled.add(Initialize.class);",
+				"    toBeFilled.addAll($EVENT_TYPE_INDEX.getEventTypes());",
 				"  }",
 				"  ",
 				"  @SyntheticMember",
 				"  @Override",
-				"  public boolean $isSupportedEvent(final Class<? extends Event> event) {", 
-				"    if (Destroy.class.isAssignableFrom(event)) {",
-				"      return true;",
-				"    }",
-				"    if (Initialize.class.isAssignableFrom(event)) {",
-				"      return true;",
-				"    }",
-				"    return false;", 
+				"  public boolean $isSupportedEvent(final Class<? extends Event> event) {",
+				"    return $EVENT_TYPE_INDEX.isSupported(event);",
 				"  }",
 				"  ",
 				"  @SyntheticMember",
@@ -2891,13 +2894,15 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"    assert eventType != null;",
 				"    assert event != null;",
 				"    super.$evaluateBehaviorGuards(eventType, event, callbacks);",
-				"    if (Destroy.class.equals(eventType)) {",
-				"      final var occurrence = (Destroy) event;",
-				"      $guardEvaluator$Destroy(occurrence, callbacks);",
-				"    }",
-				"    if (Initialize.class.equals(eventType)) {",
-				"      final var occurrence = (Initialize) event;",
-				"      $guardEvaluator$Initialize(occurrence, callbacks);",
+				"    switch ($EVENT_TYPE_INDEX.indexOf(eventType)) {",
+				"      case 0 -> {",
+				"        final var occurrence = (Destroy) event;",
+				"        $guardEvaluator$Destroy(occurrence, callbacks);",
+				"      }",
+				"      case 1 -> {",
+				"        final var occurrence = (Initialize) event;",
+				"        $guardEvaluator$Initialize(occurrence, callbacks);",
+				"      }",
 				"    }",
 				"  }",
 				"  ",
@@ -54,6 +54,7 @@ public class AgentGenericEventCompilerTest extends AbstractSarlTest {
 				"import io.sarl.lang.core.annotation.SarlElementType;",
 				"import io.sarl.lang.core.annotation.SarlSpecification;",
 				"import io.sarl.lang.core.annotation.SyntheticMember;",
+				"import io.sarl.lang.core.util.EventTypeIndex;",
 				"import jakarta.inject.Inject;",
 				"import java.util.Collection;",
 				"import java.util.Set;",
@@ -78,19 +79,19 @@ public class AgentGenericEventCompilerTest extends AbstractSarlTest {
 				"  }",
 				"  ",
 				"  @SyntheticMember",
+				"  private static final EventTypeIndex $EVENT_TYPE_INDEX = new EventTypeIndex(E1.class);",
+				"  ",
+				"  @SyntheticMember",
 				"  @Override",
 				"  public void $getSupportedEvents(final Set<Class<? extends Event>> toBeFilled) {",
 				"    super.$getSupportedEvents(toBeFilled);",
-				"    toBeFilled.add(E1.class);",
+				"    toBeFilled.addAll($EVENT_TYPE_INDEX.getEventTypes());",
 				"  }",
 				"  ",
 				"  @SyntheticMember",
 				"  @Override",
-				"  public boolean $isSupportedEvent(final Class<? extends Event> event) {", 
-				"    if (E1.class.isAssignableFrom(event)) {",
-				"      return true;",
-				"    }",
-				"    return false;", 
+				"  public boolean $isSupportedEvent(final Class<? extends Event> event) {",
+				"    return $EVENT_TYPE_INDEX.isSupported(event);",
 				"  }",
 				"  ",
 				"  @SyntheticMember",
@@ -99,10 +100,12 @@ public class AgentGenericEventCompilerTest extends AbstractSarlTest {
 				"    assert eventType != null;",
 				"    assert event != null;",
 				"    super.$evaluateBehaviorGuards(eventType, event, callbacks);",
-				"    if (E1.class.equals(eventType)) {",
-				"      final var occurrence = (E1) event;",
-				"      if (E1.$matchesTypeBounds(occurrence, String.class, Double.class)) {",
-				"        $guardEvaluator$E1$$String$$Double(occurrence, callbacks);",
+				"    switch ($EVENT_TYPE_INDEX.indexOf(eventType)) {",
+				"      case 0 -> {",
+				"        final var occurrence = (E1) event;",
+				"        if (E1.$matchesTypeBounds(occurrence, String.class, Double.class)) {",
+				"          $guardEvaluator$E1$$String$$Double(occurrence, callbacks);",
+				"        }",
 				"      }",
 				"    }",
 				"  }",
@@ -188,6 +191,7 @@ public class AgentGenericEventCompilerTest extends AbstractSarlTest {
 				"import io.sarl.lang.core.annotation.SarlElementType;",
 				"import io.sarl.lang.core.annotation.SarlSpecification;",
 				"import io.sarl.lang.core.annotation.SyntheticMember;",
+				"import io.sarl.lang.core.util.EventTypeIndex;",
 				"import jakarta.inject.Inject;",
 				"import java.util.Collection;",
 				"import java.util.Set;",
@@ -220,19 +224,19 @@ public class AgentGenericEventCompilerTest extends AbstractSarlTest {
 				"  }",
 				"  ",
 				"  @SyntheticMember",
+				"  private static final EventTypeIndex $EVENT_TYPE_INDEX = new EventTypeIndex(E1.class);",
+				"  ",
+				"  @SyntheticMember",
 				"  @Override",
 				"  public void $getSupportedEvents(final Set<Class<? extends Event>> toBeFilled) {",
 				"    super.$getSupportedEvents(toBeFilled);",
-				"    toBeFilled.add(E1.class);",
+				"    toBeFilled.addAll($EVENT_TYPE_INDEX.getEventTypes());",
 				"  }",
 				"  ",
 				"  @SyntheticMember",
 				"  @Override",
-				"  public boolean $isSupportedEvent(final Class<? extends Event> event) {", 
-				"    if (E1.class.isAssignableFrom(event)) {",
-				"      return true;",
-				"    }",
-				"    return false;", 
+				"  public boolean $isSupportedEvent(final Class<? extends Event> event) {",
+				"    return $EVENT_TYPE_INDEX.isSupported(event);",
 				"  }",
 				"  ",
 				"  @SyntheticMember",
@@ -241,10 +245,12 @@ public class AgentGenericEventCompilerTest extends AbstractSarlTest {
 				"    assert eventType != null;",
 				"    assert event != null;",
 				"    super.$evaluateBehaviorGuards(eventType, event, callbacks);",
-				"    if (E1.class.equals(eventType)) {",
-				"      final var occurrence = (E1) event;",
-				"      if (E1.$matchesTypeBounds(occurrence, String.class, Double.class)) {",
-				"        $guardEvaluator$E1$$String$$Double(occurrence, callbacks);",
+				"    switch ($EVENT_TYPE_INDEX.indexOf(eventType)) {",
+				"      case 0 -> {",
+				"        final var occurrence = (E1) event;",
+				"        if (E1.$matchesTypeBounds(occurrence, String.class, Double.class)) {",
+				"          $guardEvaluator$E1$$String$$Double(occurrence, callbacks);",
+				"        }",
 				"      }",
 				"    }",
 				"  }",
@@ -286,6 +292,7 @@ public class AgentGenericEventCompilerTest extends AbstractSarlTest {
 				"import io.sarl.lang.core.annotation.SarlElementType;",
 				"import io.sarl.lang.core.annotation.SarlSpecification;",
 				"import io.sarl.lang.core.annotation.SyntheticMember;",
+				"import io.sarl.lang.core.util.EventTypeIndex;",
 				"import jakarta.inject.Inject;",
 				"import java.util.Collection;",
 				"import java.util.Objects;",
@@ -320,19 +327,19 @@ public class AgentGenericEventCompilerTest extends AbstractSarlTest {
 				"  }",
 				"  ",
 				"  @SyntheticMember",
+				"  private static final EventTypeIndex $EVENT_TYPE_INDEX = new EventTypeIndex(E1.class);",
+				"  ",
+				"  @SyntheticMember",
 				"  @Override",
 				"  public void $getSupportedEvents(final Set<Class<? extends Event>> toBeFilled) {",
 				"    super.$getSupportedEvents(toBeFilled);",
-				"    toBeFilled.add(E1.class);",
+				"    toBeFilled.addAll($EVENT_TYPE_INDEX.getEventTypes());",
 				"  }",
 				"  ",
 				"  @SyntheticMember",
 				"  @Override",
-				"  public boolean $isSupportedEvent(final Class<? extends Event> event) {", 
-				"    if (E1.class.isAssignableFrom(event)) {",
-				"      return true;",
-				"    }",
-				"    return false;", 
+				"  public boolean $isSupportedEvent(final Class<? extends Event> event) {",
+				"    return $EVENT_TYPE_INDEX.isSupported(event);",
 				"  }",
 				"  ",
 				"  @SyntheticMember",
@@ -341,10 +348,12 @@ public class AgentGenericEventCompilerTest extends AbstractSarlTest {
 				"    assert eventType != null;",
 				"    assert event != null;",
 				"    super.$evaluateBehaviorGuards(eventType, event, callbacks);",
-				"    if (E1.class.equals(eventType)) {",
-				"      final var occurrence = (E1) event;",
-				"      if (E1.$matchesTypeBounds(occurrence, Object.class, Double.class)) {",
-				"        $guardEvaluator$E1$$Object$$Double(occurrence, callbacks);",
+				"    switch ($EVENT_TYPE_INDEX.indexOf(eventType)) {",
+				"      case 0 -> {",
+				"        final var occurrence = (E1) event;",
+				"        if (E1.$matchesTypeBounds(occurrence, Object.class, Double.class)) {",
+				"          $guardEvaluator$E1$$Object$$Double(occurrence, callbacks);",
+				"        }",
 				"      }",
 				"    }",
 				"  }",
@@ -386,6 +395,7 @@ public class AgentGenericEventCompilerTest extends AbstractSarlTest {
 				"import io.sarl.lang.core.annotation.SarlElementType;",
 				"import io.sarl.lang.core.annotation.SarlSpecification;",
 				"import io.sarl.lang.core.annotation.SyntheticMember;",
+				"import io.sarl.lang.core.util.EventTypeIndex;",
 				"import jakarta.inject.Inject;",
 				"import java.util.Collection;",
 				"import java.util.Set;",
@@ -418,19 +428,19 @@ public class AgentGenericEventCompilerTest extends AbstractSarlTest {
 				"  }",
 				"  ",
 				"  @SyntheticMember",
+				"  private static final EventTypeIndex $EVENT_TYPE_INDEX = new EventTypeIndex(E1.class);",
+				"  ",
+				"  @SyntheticMember",
 				"  @Override",
 				"  public void $getSupportedEvents(final Set<Class<? extends Event>> toBeFilled) {",
 				"    super.$getSupportedEvents(toBeFilled);",
-				"    toBeFilled.add(E1.class);",
+				"    toBeFilled.addAll($EVENT_TYPE_INDEX.getEventTypes());",
 				"  }",
 				"  ",
 				"  @SyntheticMember",
 				"  @Override",
-				"  public boolean $isSupportedEvent(final Class<? extends Event> event) {", 
-				"    if (E1.class.isAssignableFrom(event)) {",
-				"      return true;",
-				"    }",
-				"    return false;", 
+				"  public boolean $isSupportedEvent(final Class<? extends Event> event) {",
+				"    return $EVENT_TYPE_INDEX.isSupported(event);",
 				"  }",
 				"  ",
 				"  @SyntheticMember",
@@ -439,10 +449,12 @@ public class AgentGenericEventCompilerTest extends AbstractSarlTest {
 				"    assert eventType != null;",
 				"    assert event != null;",
 				"    super.$evaluateBehaviorGuards(eventType, event, callbacks);",
-				"    if (E1.class.equals(eventType)) {",
-				"      final var occurrence = (E1) event;",
-				"      if (E1.$matchesTypeBounds(occurrence, Number.class, Double.class)) {",
-				"        $guardEvaluator$E1$$Number$$Double(occurrence, callbacks);",
+				"    switch ($EVENT_TYPE_INDEX.indexOf(eventType)) {",
+				"      case 0 -> {",
+				"        final var occurrence = (E1) event;",
+				"        if (E1.$matchesTypeBounds(occurrence, Number.class, Double.class)) {",
+				"          $guardEvaluator$E1$$Number$$Double(occurrence, callbacks);",
+				"        }",
 				"      }",
 				"    }",
 				"  }",
@@ -484,6 +496,7 @@ public class AgentGenericEventCompilerTest extends AbstractSarlTest {
 				"import io.sarl.lang.core.annotation.SarlElementType;",
 				"import io.sarl.lang.core.annotation.SarlSpecification;",
 				"import io.sarl.lang.core.annotation.SyntheticMember;",
+				"import io.sarl.lang.core.util.EventTypeIndex;",
 				"import jakarta.inject.Inject;",
 				"import java.util.Collection;",
 				"import java.util.Objects;",
@@ -518,19 +531,19 @@ public class AgentGenericEventCompilerTest extends AbstractSarlTest {
 				"  }",
 				"  ",
 				"  @SyntheticMember",
+				"  private static final EventTypeIndex $EVENT_TYPE_INDEX = new EventTypeIndex(E1.class);",
+				"  ",
+				"  @SyntheticMember",
 				"  @Override",
 				"  public void $getSupportedEvents(final Set<Class<? extends Event>> toBeFilled) {",
 				"    super.$getSupportedEvents(toBeFilled);",
-				"    toBeFilled.add(E1.class);",
+				"    toBeFilled.addAll($EVENT_TYPE_INDEX.getEventTypes());",
 				"  }",
 				"  ",
 				"  @SyntheticMember",
 				"  @Override",
-				"  public boolean $isSupportedEvent(final Class<? extends Event> event) {", 
-				"    if (E1.class.isAssignableFrom(event)) {",
-				"      return true;",
-				"    }",
-				"    return false;", 
+				"  public boolean $isSupportedEvent(final Class<? extends Event> event) {",
+				"    return $EVENT_TYPE_INDEX.isSupported(event);",
 				"  }",
 				"  ",
 				"  @SyntheticMember",
@@ -539,9 +552,11 @@ public class AgentGenericEventCompilerTest extends AbstractSarlTest {
 				"    assert eventType != null;",
 				"    assert event != null;",
 				"    super.$evaluateBehaviorGuards(eventType, event, callbacks);",
-				"    if (E1.class.equals(eventType)) {",
-				"      final var occurrence = (E1) event;",
-				"      $guardEvaluator$E1$$Object$$Number(occurrence, callbacks);",
+				"    switch ($EVENT_TYPE_INDEX.indexOf(eventType)) {",
+				"      case 0 -> {",
+				"        final var occurrence = (E1) event;",
+				"        $guardEvaluator$E1$$Object$$Number(occurrence, callbacks);",
+				"      }",
 				"    }",
 				"  }",
 				"  ",
@@ -582,6 +597,7 @@ public class AgentGenericEventCompilerTest extends AbstractSarlTest {
 				"import io.sarl.lang.core.annotation.SarlElementType;",
 				"import io.sarl.lang.core.annotation.SarlSpecification;",
 				"import io.sarl.lang.core.annotation.SyntheticMember;",
+				"import io.sarl.lang.core.util.EventTypeIndex;",
 				"import jakarta.inject.Inject;",
 				"import java.util.Collection;",
 				"import java.util.Objects;",
@@ -616,19 +632,19 @@ public class AgentGenericEventCompilerTest extends AbstractSarlTest {
 				"  }",
 				"  ",
 				"  @SyntheticMember",
+				"  private static final EventTypeIndex $EVENT_TYPE_INDEX = new EventTypeIndex(E1.class);",
+				"  ",
+				"  @SyntheticMember",
 				"  @Override",
 				"  public void $getSupportedEvents(final Set<Class<? extends Event>> toBeFilled) {",
 				"    super.$getSupportedEvents(toBeFilled);",
-				"    toBeFilled.add(E1.class);",
+				"    toBeFilled.addAll($EVENT_TYPE_INDEX.getEventTypes());",
 				"  }",
 				"  ",
 				"  @SyntheticMember",
 				"  @Override",
-				"  public boolean $isSupportedEvent(final Class<? extends Event> event) {", 
-				"    if (E1.class.isAssignableFrom(event)) {",
-				"      return true;",
-				"    }",
-				"    return false;", 
+				"  public boolean $isSupportedEvent(final Class<? extends Event> event) {",
+				"    return $EVENT_TYPE_INDEX.isSupported(event);",
 				"  }",
 				"  ",
 				"  @SyntheticMember",
@@ -637,9 +653,11 @@ public class AgentGenericEventCompilerTest extends AbstractSarlTest {
 				"    assert eventType != null;",
 				"    assert event != null;",
 				"    super.$evaluateBehaviorGuards(eventType, event, callbacks);",
-				"    if (E1.class.equals(eventType)) {",
-				"      final var occurrence = (E1) event;",
-				"      $guardEvaluator$E1$$Object$$Number(occurrence, callbacks);",
+				"    switch ($EVENT_TYPE_INDEX.indexOf(eventType)) {",
+				"      case 0 -> {",
+				"        final var occurrence = (E1) event;",
+				"        $guardEvaluator$E1$$Object$$Number(occurrence, callbacks);",
+				"      }",
 				"    }",
 				"  }",
 				"  ",
@@ -680,6 +698,7 @@ public class AgentGenericEventCompilerTest extends AbstractSarlTest {
 				"import io.sarl.lang.core.annotation.SarlElementType;",
 				"import io.sarl.lang.core.annotation.SarlSpecification;",
 				"import io.sarl.lang.core.annotation.SyntheticMember;",
+				"import io.sarl.lang.core.util.EventTypeIndex;",
 				"import jakarta.inject.Inject;",
 				"import java.util.Collection;",
 				"import java.util.Set;",
@@ -712,19 +731,19 @@ public class AgentGenericEventCompilerTest extends AbstractSarlTest {
 				"  }",
 				"  ",
 				"  @SyntheticMember",
+				"  private static final EventTypeIndex $EVENT_TYPE_INDEX = new EventTypeIndex(E1.class);",
+				"  ",
+				"  @SyntheticMember",
 				"  @Override",
 				"  public void $getSupportedEvents(final Set<Class<? extends Event>> toBeFilled) {",
 				"    super.$getSupportedEvents(toBeFilled);",
-				"    toBeFilled.add(E1.class);",
+				"    toBeFilled.addAll($EVENT_TYPE_INDEX.getEventTypes());",
 				"  }",
 				"  ",
 				"  @SyntheticMember",
 				"  @Override",
-				"  public boolean $isSupportedEvent(final Class<? extends Event> event) {", 
-				"    if (E1.class.isAssignableFrom(event)) {",
-				"      return true;",
-				"    }",
-				"    return false;", 
+				"  public boolean $isSupportedEvent(final Class<? extends Event> event) {",
+				"    return $EVENT_TYPE_INDEX.isSupported(event);",
 				"  }",
 				"  ",
 				"  @SyntheticMember",
@@ -733,10 +752,12 @@ public class AgentGenericEventCompilerTest extends AbstractSarlTest {
 				"    assert eventType != null;",
 				"    assert event != null;",
 				"    super.$evaluateBehaviorGuards(eventType, event, callbacks);",
-				"    if (E1.class.equals(eventType)) {",
-				"      final var occurrence = (E1) event;",
-				"      if (E1.$matchesTypeBounds(occurrence, Number.class, Double.class)) {",
-				"        $guardEvaluator$E1$$Number$$Double(occurrence, callbacks);",
+				"    switch ($EVENT_TYPE_INDEX.indexOf(eventType)) {",
+				"      case 0 -> {",
+				"        final var occurrence = (E1) event;",
+				"        if (E1.$matchesTypeBounds(occurrence, Number.class, Double.class)) {",
+				"          $guardEvaluator$E1$$Number$$Double(occurrence, callbacks);",
+				"        }",
 				"      }",
 				"    }",
 				"  }",
@@ -778,6 +799,7 @@ public class AgentGenericEventCompilerTest extends AbstractSarlTest {
 				"import io.sarl.lang.core.annotation.SarlElementType;",
 				"import io.sarl.lang.core.annotation.SarlSpecification;",
 				"import io.sarl.lang.core.annotation.SyntheticMember;",
+				"import io.sarl.lang.core.util.EventTypeIndex;",
 				"import jakarta.inject.Inject;",
 				"import java.util.Collection;",
 				"import java.util.Set;",
@@ -822,19 +844,19 @@ public class AgentGenericEventCompilerTest extends AbstractSarlTest {
 				"  }",
 				"  ",
 				"  @SyntheticMember",
+				"  private static final EventTypeIndex $EVENT_TYPE_INDEX = new EventTypeIndex(E1.class);",
+				"  ",
+				"  @SyntheticMember",
 				"  @Override",
 				"  public void $getSupportedEvents(final Set<Class<? extends Event>> toBeFilled) {",
 				"    super.$getSupportedEvents(toBeFilled);",
-				"    toBeFilled.add(E1.class);",
+				"    toBeFilled.addAll($EVENT_TYPE_INDEX.getEventTypes());",
 				"  }",
 				"  ",
 				"  @SyntheticMember",
 				"  @Override",
-				"  public boolean $isSupportedEvent(final Class<? extends Event> event) {", 
-				"    if (E1.class.isAssignableFrom(event)) {",
-				"      return true;",
-				"    }",
-				"    return false;", 
+				"  public boolean $isSupportedEvent(final Class<? extends Event> event) {",
+				"    return $EVENT_TYPE_INDEX.isSupported(event);",
 				"  }",
 				"  ",
 				"  @SyntheticMember",
@@ -843,12 +865,14 @@ public class AgentGenericEventCompilerTest extends AbstractSarlTest {
 				"    assert eventType != null;",
 				"    assert event != null;",
 				"    super.$evaluateBehaviorGuards(eventType, event, callbacks);",
-				"    if (E1.class.equals(eventType)) {",
-				"      final var occurrence = (E1) event;",
-				"      if (E1.$matchesTypeBounds(occurrence, Number.class, Double.class)) {",
-				"        $guardEvaluator$E1$$Number$$Double(occurrence, callbacks);",
+				"    switch ($EVENT_TYPE_INDEX.indexOf(eventType)) {",
+				"      case 0 -> {",
+				"        final var occurrence = (E1) event;",
+				"        if (E1.$matchesTypeBounds(occurrence, Number.class, Double.class)) {",
+				"          $guardEvaluator$E1$$Number$$Double(occurrence, callbacks);",
+				"        }",
+				"        $guardEvaluator$E1$$Object$$Number(occurrence, callbacks);",
 				"      }",
-				"      $guardEvaluator$E1$$Object$$Number(occurrence, callbacks);",
 				"    }",
 				"  }",
 				"  ",
@@ -892,6 +916,7 @@ public class AgentGenericEventCompilerTest extends AbstractSarlTest {
 				"import io.sarl.lang.core.annotation.SarlElementType;",
 				"import io.sarl.lang.core.annotation.SarlSpecification;",
 				"import io.sarl.lang.core.annotation.SyntheticMember;",
+				"import io.sarl.lang.core.util.EventTypeIndex;",
 				"import jakarta.inject.Inject;",
 				"import java.util.Collection;",
 				"import java.util.Set;",
@@ -994,19 +1019,19 @@ public class AgentGenericEventCompilerTest extends AbstractSarlTest {
 				"  }",
 				"",
 				"  @SyntheticMember",
+				"  private static final EventTypeIndex $EVENT_TYPE_INDEX = new EventTypeIndex(GenericEvent.class);",
+				"",
+				"  @SyntheticMember",
 				"  @Override",
 				"  public void $getSupportedEvents(final Set<Class<? extends Event>> toBeFilled) {",
 				"    super.$getSupportedEvents(toBeFilled);",
-				"    toBeFilled.add(GenericEvent.class);",
+				"    toBeFilled.addAll($EVENT_TYPE_INDEX.getEventTypes());",
 				"  }",
 				"",
 				"  @SyntheticMember",
 				"  @Override",
 				"  public boolean $isSupportedEvent(final Class<? extends Event> event) {",
-				"    if (GenericEvent.class.isAssignableFrom(event)) {",
-				"      return true;",
-				"    }",
-				"    return false;",
+				"    return $EVENT_TYPE_INDEX.isSupported(event);",
 				"  }",
 				"",
 				"  @SyntheticMember",
@@ -1015,23 +1040,25 @@ public class AgentGenericEventCompilerTest extends AbstractSarlTest {
 				"    assert eventType != null;",
 				"    assert event != null;",
 				"    super.$evaluateBehaviorGuards(eventType, event, callbacks);",
-				"    if (GenericEvent.class.equals(eventType)) {",
-				"      final var occurrence = (GenericEvent) event;",
-				"      if (GenericEvent.$matchesTypeBounds(occurrence, Double.class, Number.class)) {",
-				"        $guardEvaluator$GenericEvent$$Double$$Number(occurrence, callbacks);",
-				"      }",
-				"      if (GenericEvent.$matchesTypeBounds(occurrence, Number.class, Number.class)) {",
-				"        $guardEvaluator$GenericEvent$$Number$$Number(occurrence, callbacks);",
-				"      }",
-				"      if (GenericEvent.$matchesTypeBounds(occurrence, Object.class, Float.class)) {",
-				"        $guardEvaluator$GenericEvent$$Object$$Float(occurrence, callbacks);",
-				"      }",
-				"      $guardEvaluator$GenericEvent$$Object$$Number(occurrence, callbacks);",
-				"      if (GenericEvent.$matchesTypeBounds(occurrence, String.class, Float.class)) {",
-				"        $guardEvaluator$GenericEvent$$String$$Float(occurrence, callbacks);",
-				"      }",
-				"      if (GenericEvent.$matchesTypeBounds(occurrence, String.class, Number.class)) {",
-				"        $guardEvaluator$GenericEvent$$String$$Number(occurrence, callbacks);",
+				"    switch ($EVENT_TYPE_INDEX.indexOf(eventType)) {",
+				"      case 0 -> {",
+				"        final var occurrence = (GenericEvent) event;",
+				"        if (GenericEvent.$matchesTypeBounds(occurrence, Double.class, Number.class)) {",
+				"          $guardEvaluator$GenericEvent$$Double$$Number(occurrence, callbacks);",
+				"        }",
+				"        if (GenericEvent.$matchesTypeBounds(occurrence, Number.class, Number.class)) {",
+				"          $guardEvaluator$GenericEvent$$Number$$Number(occurrence, callbacks);",
+				"        }",
+				"        if (GenericEvent.$matchesTypeBounds(occurrence, Object.class, Float.class)) {",
+				"          $guardEvaluator$GenericEvent$$Object$$Float(occurrence, callbacks);",
+				"        }",
+				"        $guardEvaluator$GenericEvent$$Object$$Number(occurrence, callbacks);",
+				"        if (GenericEvent.$matchesTypeBounds(occurrence, String.class, Float.class)) {",
+				"          $guardEvaluator$GenericEvent$$String$$Float(occurrence, callbacks);",
+				"        }",
+				"        if (GenericEvent.$matchesTypeBounds(occurrence, String.class, Number.class)) {",
+				"          $guardEvaluator$GenericEvent$$String$$Number(occurrence, callbacks);",
+				"        }",
 				"      }",
 				"    }",
 				"  }",
@@ -107,6 +107,7 @@ public class BehaviorCompilerTest extends AbstractSarlTest {
 				"import io.sarl.lang.core.annotation.SarlElementType;",
 				"import io.sarl.lang.core.annotation.SarlSpecification;",
 				"import io.sarl.lang.core.annotation.SyntheticMember;",
+				"import io.sarl.lang.core.util.EventTypeIndex;",
 				"import java.util.Collection;",
 				"import java.util.Set;",
 				"import org.eclipse.xtext.xbase.lib.XbaseGenerated;",
@@ -129,19 +130,19 @@ public class BehaviorCompilerTest extends AbstractSarlTest {
 				"  }",
 				"  ",
 				"  @SyntheticMember",
+				"  private static final EventTypeIndex $EVENT_TYPE_INDEX = new EventTypeIndex(E1.class);",
+				"  ",
+				"  @SyntheticMember",
 				"  @Override",
 				"  public void $getSupportedEvents(final Set<Class<? extends Event>> toBeFilled) {",
 				"    super.$getSupportedEvents(toBeFilled);",
-				"    toBeFilled.add(E1.class);",
+				"    toBeFilled.addAll($EVENT_TYPE_INDEX.getEventTypes());",
 				"  }",
 				"  ",
 				"  @SyntheticMember",
 				"  @Override",
-				"  public boolean $isSupportedEvent(final Class<? extends Event> event) {", 
-				"    if (E1.class.isAssignableFrom(event)) {",
-				"      return true;",
-				"    }",
-				"    return false;", 
+				"  public boolean $isSupportedEvent(final Class<? extends Event> event) {",
+				"    return $EVENT_TYPE_INDEX.isSupported(event);",
 				"  }",
 				"  ",
 				"  @SyntheticMember",
@@ -150,9 +151,11 @@ public class BehaviorCompilerTest extends AbstractSarlTest {
 				"    assert eventType != null;",
 				"    assert event != null;",
 				"    super.$evaluateBehaviorGuards(eventType, event, callbacks);",
-				"    if (E1.class.equals(eventType)) {",
-				"      final var occurrence = (E1) event;",
-				"      $guardEvaluator$E1(occurrence, callbacks);",
+				"    switch ($EVENT_TYPE_INDEX.indexOf(eventType)) {",
+				"      case 0 -> {",
+				"        final var occurrence = (E1) event;",
+				"        $guardEvaluator$E1(occurrence, callbacks);",
+				"      }",
 				"    }",
 				"  }",
 				"  ",
@@ -319,6 +322,7 @@ public class BehaviorCompilerTest extends AbstractSarlTest {
 				"import io.sarl.lang.core.annotation.SarlElementType;",
 				"import io.sarl.lang.core.annotation.SarlSpecification;",
 				"import io.sarl.lang.core.annotation.SyntheticMember;",
+				"import io.sarl.lang.core.util.EventTypeIndex;",
 				"import java.util.Collection;",
 				"import java.util.Set;",
 				"import org.eclipse.xtext.xbase.lib.Pure;",
@@ -349,19 +353,19 @@ public class BehaviorCompilerTest extends AbstractSarlTest {
 				"  }",
 				"  ",
 				"  @SyntheticMember",
+				"  private static final EventTypeIndex $EVENT_TYPE_INDEX = new EventTypeIndex(E1.class);",
+				"  ",
+				"  @SyntheticMember",
 				"  @Override",
 				"  public void $getSupportedEvents(final Set<Class<? extends Event>> toBeFilled) {",
 				"    super.$getSupportedEvents(toBeFilled);",
-				"    toBeFilled.add(E1.class);",
+				"    toBeFilled.addAll($EVENT_TYPE_INDEX.getEventTypes());",
 				"  }",
 				"  ",
 				"  @SyntheticMember",
 				"  @Override",
-				"  public boolean $isSupportedEvent(final Class<? extends Event> event) {", 
-				"    if (E1.class.isAssignableFrom(event)) {",
-				"      return true;",
-				"    }",
-				"    return false;", 
+				"  public boolean $isSupportedEvent(final Class<? extends Event> event) {",
+				"    return $EVENT_TYPE_INDEX.isSupported(event);",
 				"  }",
 				"  ",
 				"  @SyntheticMember",
@@ -370,9 +374,11 @@ public class BehaviorCompilerTest extends AbstractSarlTest {
 				"    assert eventType != null;",
 				"    assert event != null;",
 				"    super.$evaluateBehaviorGuards(eventType, event, callbacks);",
-				"    if (E1.class.equals(eventType)) {",
-				"      final var occurrence = (E1) event;",
-				"      $guardEvaluator$E1(occurrence, callbacks);",
+				"    switch ($EVENT_TYPE_INDEX.indexOf(eventType)) {",
+				"      case 0 -> {",
+				"        final var occurrence = (E1) event;",
+				"        $guardEvaluator$E1(occurrence, callbacks);",
+				"      }",
 				"    }",
 				"  }",
 				"  ",
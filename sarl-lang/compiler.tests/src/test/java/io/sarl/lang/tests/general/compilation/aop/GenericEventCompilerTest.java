@@ -4405,6 +4405,7 @@ public class GenericEventCompilerTest {
 					"import io.sarl.lang.core.annotation.SarlElementType;",
 					"import io.sarl.lang.core.annotation.SarlSpecification;",
 					"import io.sarl.lang.core.annotation.SyntheticMember;",
+					"import io.sarl.lang.core.util.EventTypeIndex;",
 					"import jakarta.inject.Inject;",
 					"import java.util.Collection;",
 					"import java.util.Set;",
@@ -4487,19 +4488,19 @@ public class GenericEventCompilerTest {
 					"  }",
 					"",
 					"  @SyntheticMember",
+					"  private static final EventTypeIndex $EVENT_TYPE_INDEX = new EventTypeIndex(E1.class);",
+					"",
+					"  @SyntheticMember",
 					"  @Override",
 					"  public void $getSupportedEvents(final Set<Class<? extends Event>> toBeFilled) {",
 					"    super.$getSupportedEvents(toBeFilled);",
-					"    toBeFilled.add(E1.class);",
+					"    toBeFilled.addAll($EVENT_TYPE_INDEX.getEventTypes());",
 					"  }",
 					"",
 					"  @SyntheticMember",
 					"  @Override",
 					"  public boolean $isSupportedEvent(final Class<? extends Event> event) {",
-					"    if (E1.class.isAssignableFrom(event)) {",
-					"      return true;",
-					"    }",
-					"    return false;",
+					"    return $EVENT_TYPE_INDEX.isSupported(event);",
 					"  }",
 					"",
 					"  @SyntheticMember",
@@ -4508,20 +4509,22 @@ public class GenericEventCompilerTest {
 					"    assert eventType != null;",
 					"    assert event != null;",
 					"    super.$evaluateBehaviorGuards(eventType, event, callbacks);",
-					"    if (E1.class.equals(eventType)) {",
-					"      final var occurrence = (E1) event;",
-					"      if (E1.$matchesTypeBounds(occurrence, Double.class, Number.class)) {",
-					"        $guardEvaluator$E1$$Double$$Number(occurrence, callbacks);",
-					"      }",
-					"      if (E1.$matchesTypeBounds(occurrence, Object.class, Double.class)) {",
-					"        $guardEvaluator$E1$$Object$$Double(occurrence, callbacks);",
-					"      }",
-					"      $guardEvaluator$E1$$Object$$Number(occurrence, callbacks);",
-					"      if (E1.$matchesTypeBounds(occurrence, String.class, Double.class)) {",
-					"        $guardEvaluator$E1$$String$$Double(occurrence, callbacks);",
-					"      }",
-					"      if (E1.$matchesTypeBounds(occurrence, String.class, Number.class)) {",
-					"        $guardEvaluator$E1$$String$$Number(occurrence, callbacks);",
+					"    switch ($EVENT_TYPE_INDEX.indexOf(eventType)) {",
+					"      case 0 -> {",
+					"        final var occurrence = (E1) event;",
+					"        if (E1.$matchesTypeBounds(occurrence, Double.class, Number.class)) {",
+					"          $guardEvaluator$E1$$Double$$Number(occurrence, callbacks);",
+					"        }",
+					"        if (E1.$matchesTypeBounds(occurrence, Object.class, Double.class)) {",
+					"          $guardEvaluator$E1$$Object$$Double(occurrence, callbacks);",
+					"        }",
+					"        $guardEvaluator$E1$$Object$$Number(occurrence, callbacks);",
+					"        if (E1.$matchesTypeBounds(occurrence, String.class, Double.class)) {",
+					"          $guardEvaluator$E1$$String$$Double(occurrence, callbacks);",
+					"        }",
+					"        if (E1.$matchesTypeBounds(occurrence, String.class, Number.class)) {",
+					"          $guardEvaluator$E1$$String$$Number(occurrence, callbacks);",
+					"        }",
 					"      }",
 					"    }",
 					"  }",
@@ -4575,6 +4578,7 @@ public class GenericEventCompilerTest {
 					"import io.sarl.lang.core.annotation.SarlElementType;",
 					"import io.sarl.lang.core.annotation.SarlSpecification;",
 					"import io.sarl.lang.core.annotation.SyntheticMember;",
+					"import io.sarl.lang.core.util.EventTypeIndex;",
 					"import jakarta.inject.Inject;",
 					"import java.util.Collection;",
 					"import java.util.Set;",
@@ -4693,27 +4697,19 @@ public class GenericEventCompilerTest {
 					"  }",
 					"",
 					"  @SyntheticMember",
+					"  private static final EventTypeIndex $EVENT_TYPE_INDEX = new EventTypeIndex(E1.class, E2.class, E3.class);",
+					"",
+					"  @SyntheticMember",
 					"  @Override",
 					"  public void $getSupportedEvents(final Set<Class<? extends Event>> toBeFilled) {",
 					"    super.$getSupportedEvents(toBeFilled);",
-					"    toBeFilled.add(E1.class);",
-					"    toBeFilled.add(E2.class);",
-					"    toBeFilled.add(E3.class);",
+					"    toBeFilled.addAll($EVENT_TYPE_INDEX.getEventTypes());",
 					"  }",
 					"",
 					"  @SyntheticMember",
 					"  @Override",
 					"  public boolean $isSupportedEvent(final Class<? extends Event> event) {",
-					"    if (E1.class.isAssignableFrom(event)) {",
-					"      return true;",
-					"    }",
-					"    if (E2.class.isAssignableFrom(event)) {",
-					"      return true;",
-					"    }",
-					"    if (E3.class.isAssignableFrom(event)) {",
-					"      return true;",
-					"    }",
-					"    return false;",
+					"    return $EVENT_TYPE_INDEX.isSupported(event);",
 					"  }",
 					"",
 					"  @SyntheticMember",
@@ -4722,33 +4718,35 @@ public class GenericEventCompilerTest {
 					"    assert eventType != null;",
 					"    assert event != null;",
 					"    super.$evaluateBehaviorGuards(eventType, event, callbacks);",
-					"    if (E1.class.equals(eventType)) {",
-					"      final var occurrence = (E1) event;",
-					"      if (E1.$matchesTypeBounds(occurrence, Double.class, Number.class)) {",
-					"        $guardEvaluator$E1$$Double$$Number(occurrence, callbacks);",
-					"      }",
-					"      if (E1.$matchesTypeBounds(occurrence, Object.class, Double.class)) {",
-					"        $guardEvaluator$E1$$Object$$Double(occurrence, callbacks);",
+					"    switch ($EVENT_TYPE_INDEX.indexOf(eventType)) {",
+					"      case 0 -> {",
+					"        final var occurrence = (E1) event;",
+					"        if (E1.$matchesTypeBounds(occurrence, Double.class, Number.class)) {",
+					"          $guardEvaluator$E1$$Double$$Number(occurrence, callbacks);",
+					"        }",
+					"        if (E1.$matchesTypeBounds(occurrence, Object.class, Double.class)) {",
+					"          $guardEvaluator$E1$$Object$$Double(occurrence, callbacks);",
+					"        }",
+					"        $guardEvaluator$E1$$Object$$Number(occurrence, callbacks);",
+					"        if (E1.$matchesTypeBounds(occurrence, String.class, Double.class)) {",
+					"          $guardEvaluator$E1$$String$$Double(occurrence, callbacks);",
+					"        }",
+					"        if (E1.$matchesTypeBounds(occurrence, String.class, Number.class)) {",
+					"          $guardEvaluator$E1$$String$$Number(occurrence, callbacks);",
+					"        }",
 					"      }",
-					"      $guardEvaluator$E1$$Object$$Number(occurrence, callbacks);",
-					"      if (E1.$matchesTypeBounds(occurrence, String.class, Double.class)) {",
-					"        $guardEvaluator$E1$$String$$Double(occurrence, callbacks);",
+					"      case 1 -> {",
+					"        final var occurrence = (E2) event;",
+					"        $guardEvaluator$E2$$Object(occurrence, callbacks);",
+					"        if (E2.$matchesTypeBounds(occurrence, String.class)) {",
+					"          $guardEvaluator$E2$$String(occurrence, callbacks);",
+					"        }",
 					"      }",
-					"      if (E1.$matchesTypeBounds(occurrence, String.class, Number.class)) {",
-					"        $guardEvaluator$E1$$String$$Number(occurrence, callbacks);",
+					"      case 2 -> {",
+					"        final var occurrence = (E3) event;",
+					"        $guardEvaluator$E3(occurrence, callbacks);",
 					"      }",
 					"    }",
-					"    if (E2.class.equals(eventType)) {",
-					"      final var occurrence = (E2) event;",
-					"      $guardEvaluator$E2$$Object(occurrence, callbacks);",
-					"      if (E2.$matchesTypeBounds(occurrence, String.class)) {",
-					"        $guardEvaluator$E2$$String(occurrence, callbacks);",
-					"      }",
-					"    }",
-					"    if (E3.class.equals(eventType)) {",
-					"      final var occurrence = (E3) event;",
-					"      $guardEvaluator$E3(occurrence, callbacks);",
-					"    }",
 					"  }",
 					"",
 					"  @SyntheticMember",
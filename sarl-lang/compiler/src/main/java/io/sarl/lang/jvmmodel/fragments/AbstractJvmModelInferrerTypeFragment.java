@@ -80,6 +80,7 @@ import io.sarl.lang.core.annotation.NoEqualityTestFunctionsGeneration;
 import io.sarl.lang.core.annotation.PerceptGuardEvaluator;
 import io.sarl.lang.core.annotation.SarlElementType;
 import io.sarl.lang.core.annotation.SarlSpecification;
+import io.sarl.lang.core.util.EventTypeIndex;
 import io.sarl.lang.core.util.SarlUtils;
 import io.sarl.lang.jvmmodel.GenerationContext;
 import io.sarl.lang.jvmmodel.GenerationContext.BehaviorUnitGuardEvaluators;
@@ -111,6 +112,8 @@ public abstract class AbstractJvmModelInferrerTypeFragment extends AbstractJvmMo
 
 	private static final String SERIAL_FIELD_NAME = "serialVersionUID"; //$NON-NLS-1$
 
+	private static final String EVENT_TYPE_INDEX_FIELD_NAME = SarlUtils.HIDDEN_MEMBER_CHARACTER + "EVENT_TYPE_INDEX"; //$NON-NLS-1$
+
 	private static final Set<Class<?>> EQUALITY_TEST_TYPES = new TreeSet<>((ele1, ele2) -> ele1.getName().compareTo(ele2.getName()));
 
 	static {
@@ -1393,6 +1396,34 @@ public abstract class AbstractJvmModelInferrerTypeFragment extends AbstractJvmMo
 			boolean isRootType, JvmGenericType container, GenerationContext context) {
 		final var voidType = baseInferrer.getJvmTypeReferenceBuilder().typeRef(Void.TYPE);
 
+		// Field "$EVENT_TYPE_INDEX": the supported event types are indexed in the order of the guard definitions.
+		final var indexType = baseInferrer.getJvmTypeReferenceBuilder().typeRef(EventTypeIndex.class);
+		final var indexField = this.jvmTypesFactory.createJvmField();
+		indexField.setSimpleName(EVENT_TYPE_INDEX_FIELD_NAME);
+		indexField.setVisibility(JvmVisibility.PRIVATE);
+		indexField.setStatic(true);
+		indexField.setTransient(false);
+		indexField.setVolatile(false);
+		indexField.setFinal(true);
+		container.getMembers().add(indexField);
+		indexField.setType(this.jvmTypeBuilder.cloneWithProxies(indexType));
+		this.jvmTypeBuilder.setInitializer(indexField, it -> {
+			it.append("new ").append(indexType.getType()).append("("); //$NON-NLS-1$ //$NON-NLS-2$
+			var first = true;
+			for (final var type : guardDefs.getEventTypes()) {
+				if (first) {
+					first = false;
+				} else {
+					it.append(", "); //$NON-NLS-1$
+				}
+				it.append(type.getType());
+				it.append(".class"); //$NON-NLS-1$
+			}
+			it.append(")"); //$NON-NLS-1$
+		});
+		appendGeneratedAnnotation(baseInferrer, indexField, context);
+		this.readAndWriteTracking.markInitialized(indexField, null);
+
 		// Function "$getSupportedEvents"
 		final var eventTypeOperation = this.jvmTypesFactory.createJvmOperation();
 		appendGeneratedAnnotation(baseInferrer, eventTypeOperation, context);
@@ -1420,13 +1451,9 @@ public abstract class AbstractJvmModelInferrerTypeFragment extends AbstractJvmMo
 
 		setBody(eventTypeOperation, it -> {
 			it.append("super.").append(SarlUtils.HIDDEN_MEMBER_CHARACTER); //$NON-NLS-1$
-			it.append("getSupportedEvents(toBeFilled);"); //$NON-NLS-1$
-			for (final var type : guardDefs.getEventTypes()) {
-				it.newLine();
-				it.append("toBeFilled.add("); //$NON-NLS-1$
-				it.append(type.getType());
-				it.append(".class);"); //$NON-NLS-1$
-			}
+			it.append("getSupportedEvents(toBeFilled);").newLine(); //$NON-NLS-1$
+			it.append("toBeFilled.addAll(").append(EVENT_TYPE_INDEX_FIELD_NAME); //$NON-NLS-1$
+			it.append(".getEventTypes());"); //$NON-NLS-1$
 		});
 
 		// Function "$isSupportedEvent"
@@ -1454,21 +1481,10 @@ public abstract class AbstractJvmModelInferrerTypeFragment extends AbstractJvmMo
 		container.getMembers().add(eventSupportOperation);
 
 		setBody(eventSupportOperation, it -> {
-			for (final var type : guardDefs.getEventTypes()) {
-				it.append("if ("); //$NON-NLS-1$
-				it.append(type.getType());
-				it.append(".class.isAssignableFrom(event)) {"); //$NON-NLS-1$
-				it.increaseIndentation().newLine();
-				it.append("return true;"); //$NON-NLS-1$
-				it.decreaseIndentation().newLine();
-				it.append("}"); //$NON-NLS-1$
-				it.newLine();
-			}
-			it.append("return "); //$NON-NLS-1$
-			if (isRootType) {
-				it.append("false"); //$NON-NLS-1$
-			} else {
-				it.append("super.").append(SarlUtils.HIDDEN_MEMBER_CHARACTER); //$NON-NLS-1$
+			it.append("return ").append(EVENT_TYPE_INDEX_FIELD_NAME); //$NON-NLS-1$
+			it.append(".isSupported(event)"); //$NON-NLS-1$
+			if (!isRootType) {
+				it.append(" || super.").append(SarlUtils.HIDDEN_MEMBER_CHARACTER); //$NON-NLS-1$
 				it.append("isSupportedEvent(event)"); //$NON-NLS-1$
 			}
 			it.append(";"); //$NON-NLS-1$
@@ -1512,12 +1528,15 @@ public abstract class AbstractJvmModelInferrerTypeFragment extends AbstractJvmMo
 			it.append("assert eventType != null;").newLine(); //$NON-NLS-1$
 			it.append("assert event != null;").newLine(); //$NON-NLS-1$
 			it.append("super.").append(SarlUtils.HIDDEN_MEMBER_CHARACTER); //$NON-NLS-1$
-			it.append("evaluateBehaviorGuards(eventType, event, callbacks);"); //$NON-NLS-1$
+			it.append("evaluateBehaviorGuards(eventType, event, callbacks);").newLine(); //$NON-NLS-1$
+			it.append("switch (").append(EVENT_TYPE_INDEX_FIELD_NAME); //$NON-NLS-1$
+			it.append(".indexOf(eventType)) {").increaseIndentation(); //$NON-NLS-1$
+			// The functions are sorted as the event types that were given to the index
+			var index = 0;
 			for (final var functions : guardDefs.getFunctions()) {
 				it.newLine();
-				it.append("if ("); //$NON-NLS-1$
-				it.append(functions.getEventType());
-				it.append(".class.equals(eventType)) {"); //$NON-NLS-1$
+				it.append("case ").append(Integer.toString(index)).append(" -> {"); //$NON-NLS-1$ //$NON-NLS-2$
+				++index;
 				it.increaseIndentation().newLine();
 				it.append("final var occurrence = (").append(functions.getEventType()).append(") event;"); //$NON-NLS-1$ //$NON-NLS-2$
 				for (final var methSpec : functions.getFunctions()) {
@@ -1542,6 +1561,8 @@ public abstract class AbstractJvmModelInferrerTypeFragment extends AbstractJvmMo
 				it.decreaseIndentation().newLine();
 				it.append("}"); //$NON-NLS-1$
 			}
+			it.decreaseIndentation().newLine();
+			it.append("}"); //$NON-NLS-1$
 		});
 	}
 
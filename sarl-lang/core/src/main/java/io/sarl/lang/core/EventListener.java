@@ -21,6 +21,8 @@
 
 package io.sarl.lang.core;
 
+import java.util.Collection;
+
 /**
  * Entity capable listening to events inside an Interaction {@link Space}.
  *
@@ -43,4 +45,20 @@ public interface EventListener extends Identifiable {
 	 */
 	void receiveEvent(Event event);
 
+	/**
+	 * Request the entity to receive the given events.
+	 *
+	 * <p>The default implementation receives the events one by one. The listeners
+	 * may override this function in order to process the whole collection at once,
+	 * e.g. within a single task.
+	 *
+	 * @param events the events to be received.
+	 * @since 0.15
+	 */
+	default void receiveEvents(Collection<? extends Event> events) {
+		for (final Event event : events) {
+			receiveEvent(event);
+		}
+	}
+
 }
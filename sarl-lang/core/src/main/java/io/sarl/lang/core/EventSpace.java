@@ -21,6 +21,7 @@
 
 package io.sarl.lang.core;
 
+import java.util.Collection;
 import java.util.UUID;
 
 import org.eclipse.xtext.xbase.lib.Inline;
@@ -79,4 +80,45 @@ public interface EventSpace extends Space {
 		emit(eventSource, event, null);
 	}
 
+	/**
+	 * Emits the events inside this space with the given scope. Only agents
+	 * matching the scope will receive the events.
+	 *
+	 * <p>This function does not change the sources of the events if they were set.
+	 *
+	 * <p>If an event has no specified source, the emit function uses the
+	 * {@code eventSource} parameter to set the source's address.
+	 *
+	 * <p>The default implementation emits the events one by one. The implementations
+	 * of the event spaces may override this function in order to route the events
+	 * and to resolve the receivers once for the whole collection.
+	 *
+	 * @param eventSource the sender of the events.
+	 * @param events the events to emit in the space.
+	 * @param scope the definition of the list of receivers of the events.
+	 * @since 0.15
+	 */
+	default void emitAll(UUID eventSource, Collection<? extends Event> events, Scope<Address> scope) {
+		for (final Event event : events) {
+			emit(eventSource, event, scope);
+		}
+	}
+
+	/**
+	 * Emits the events inside this space. All registered agents will receive the events.
+	 *
+	 * <p>This function does not change the sources of the events if they were set.
+	 *
+	 * <p>If an event has no specified source, the emit function uses the
+	 * {@code eventSource} parameter to set the source's address.
+	 *
+	 * @param eventSource the sender of the events.
+	 * @param events the events to emit in the space.
+	 * @since 0.15
+	 */
+	@Inline(value = "emitAll($1, $2, null)")
+	default void emitAll(UUID eventSource, Collection<? extends Event> events) {
+		emitAll(eventSource, events, null);
+	}
+
 }
@@ -0,0 +1,115 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2025 SARL.io, the Original Authors and Main Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sarl.lang.core.util;
+
+import java.util.List;
+
+import io.sarl.lang.core.Event;
+
+/**
+ * Index of the event types that are supported by a behavior guard evaluator receiver.
+ * This index is used by the generated code of the agents, behaviors and skills for replying
+ * the supported events and for dispatching an event to the guard evaluators without
+ * testing each of the supported event types.
+ *
+ * <p>The results of the queries on a given event type are cached; the
+ * subsequent queries on the same type are done in constant time.
+ * This class is thread-safe.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.15
+ */
+public final class EventTypeIndex {
+
+	private final List<Class<? extends Event>> eventTypes;
+
+	private final ClassValue<Entry> entries = new ClassValue<>() {
+		@Override
+		protected Entry computeValue(Class<?> type) {
+			final var index = EventTypeIndex.this.eventTypes.indexOf(type);
+			var supported = index >= 0;
+			if (!supported) {
+				for (final var eventType : EventTypeIndex.this.eventTypes) {
+					if (eventType.isAssignableFrom(type)) {
+						supported = true;
+						break;
+					}
+				}
+			}
+			return new Entry(index, supported);
+		}
+	};
+
+	/** Constructor.
+	 *
+	 * @param eventTypes the supported event types. The position of a type in this list is its index.
+	 */
+	@SafeVarargs
+	public EventTypeIndex(Class<? extends Event>... eventTypes) {
+		this.eventTypes = List.of(eventTypes);
+	}
+
+	/** Replies the supported event types.
+	 *
+	 * @return the unmodifiable list of the event types.
+	 */
+	public List<Class<? extends Event>> getEventTypes() {
+		return this.eventTypes;
+	}
+
+	/** Replies the index of the given event type.
+	 *
+	 * @param eventType the type to search for.
+	 * @return the index of the event type that is equal to the given type, or {@code -1} if the type
+	 *     is not directly supported.
+	 */
+	public int indexOf(Class<?> eventType) {
+		return this.entries.get(eventType).index();
+	}
+
+	/** Replies if the given event type is one of the supported event types or one of their subtypes.
+	 *
+	 * @param eventType the type to test.
+	 * @return {@code true} if the given type is supported.
+	 */
+	public boolean isSupported(Class<?> eventType) {
+		return this.entries.get(eventType).supported();
+	}
+
+	/** Cached information on an event type.
+	 *
+	 * @param index the index of the event type, or {@code -1}.
+	 * @param supported indicates if the event type is supported.
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 0.15
+	 */
+	private record Entry(int index, boolean supported) {
+		//
+	}
+
+}
@@ -0,0 +1,104 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2025 SARL.io, the Original Authors and Main Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sarl.lang.core.tests.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import io.sarl.lang.core.Event;
+import io.sarl.lang.core.util.EventTypeIndex;
+
+/** This class tests the {@link EventTypeIndex} for SARL.
+ *
+ * @author $Author: sgalland$
+ * @version $Name$ $Revision$ $Date$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.15
+ */
+@SuppressWarnings("all")
+@DisplayName("EventTypeIndex")
+@Tag("core")
+@Tag("unit")
+public class EventTypeIndexTest {
+
+	private EventTypeIndex test;
+
+	@BeforeEach
+	public void setUp() {
+		this.test = new EventTypeIndex(E1.class, E3.class);
+	}
+
+	@Test
+	@DisplayName("getEventTypes")
+	public void getEventTypes() {
+		assertEquals(Arrays.asList(E1.class, E3.class), this.test.getEventTypes());
+		assertThrows(UnsupportedOperationException.class, () -> this.test.getEventTypes().add(E2.class));
+	}
+
+	@Test
+	@DisplayName("indexOf")
+	public void indexOf() {
+		assertEquals(0, this.test.indexOf(E1.class));
+		assertEquals(1, this.test.indexOf(E3.class));
+		assertEquals(-1, this.test.indexOf(E2.class));
+		assertEquals(-1, this.test.indexOf(Event.class));
+		assertEquals(-1, this.test.indexOf(String.class));
+	}
+
+	@Test
+	@DisplayName("isSupported")
+	public void isSupported() {
+		assertTrue(this.test.isSupported(E1.class));
+		assertTrue(this.test.isSupported(E2.class));
+		assertTrue(this.test.isSupported(E3.class));
+		assertFalse(this.test.isSupported(Event.class));
+		assertFalse(this.test.isSupported(String.class));
+	}
+
+	@Test
+	@DisplayName("empty index")
+	public void emptyIndex() {
+		var index = new EventTypeIndex();
+		assertTrue(index.getEventTypes().isEmpty());
+		assertEquals(-1, index.indexOf(E1.class));
+		assertFalse(index.isSupported(E1.class));
+	}
+
+	private static class E1 extends Event {
+		//
+	}
+
+	private static class E2 extends E1 {
+		//
+	}
+
+	private static class E3 extends Event {
+		//
+	}
+
+}
@@ -109,6 +109,21 @@ public abstract class AbstractCompileMojo extends AbstractSarlBatchCompilerMojo
 	@Parameter(defaultValue = "true", required = false)
 	private boolean generateStorageFiles;
 
+	/** Indicates if only the SARL files that have changed since the previous compilation,
+	 * and the SARL files that depend on them, are validated and generated. The files that were
+	 * generated from a removed SARL file are deleted. All the SARL files are still loaded,
+	 * and their Java stubs are still generated and compiled for linking the changed files.
+	 * @since 0.15
+	 */
+	@Parameter(defaultValue = "false", required = false)
+	private boolean incremental;
+
+	/** Indicates if the Java stubs of the SARL types are compiled in memory instead of into temporary folders.
+	 * @since 0.15
+	 */
+	@Parameter(defaultValue = "false", required = false)
+	private boolean inMemoryStubs;
+
 	/** Indicates if the equality test functions must be generated by the SARL maven plugin.
 	 * @since 0.8
 	 */
@@ -317,6 +332,16 @@ public abstract class AbstractCompileMojo extends AbstractSarlBatchCompilerMojo
 		return this.generateStorageFiles;
 	}
 
+	@Override
+	protected boolean isIncrementalCompilation() {
+		return this.incremental;
+	}
+
+	@Override
+	protected boolean isInMemoryStubCompilation() {
+		return this.inMemoryStubs;
+	}
+
 	@Override
 	protected void buildPropertyString(StringBuilder buffer) {
 		super.buildPropertyString(buffer);
@@ -327,6 +352,8 @@ public abstract class AbstractCompileMojo extends AbstractSarlBatchCompilerMojo
 		buffer.append("generateInlines = ").append(this.generateInlines).append("\n"); //$NON-NLS-1$//$NON-NLS-2$
 		buffer.append("generateTraceFiles = ").append(this.generateTraceFiles).append("\n"); //$NON-NLS-1$//$NON-NLS-2$
 		buffer.append("generateStorageFiles = ").append(this.generateStorageFiles).append("\n"); //$NON-NLS-1$//$NON-NLS-2$
+		buffer.append("incremental = ").append(this.incremental).append("\n"); //$NON-NLS-1$//$NON-NLS-2$
+		buffer.append("inMemoryStubs = ").append(this.inMemoryStubs).append("\n"); //$NON-NLS-1$//$NON-NLS-2$
 		buffer.append("generateEqualityTestFunctions = ").append(this.generateEqualityTestFunctions).append("\n"); //$NON-NLS-1$//$NON-NLS-2$
 		buffer.append("generateToStringFunctions = ").append(this.generateToStringFunctions).append("\n"); //$NON-NLS-1$//$NON-NLS-2$
 		buffer.append("generateCloneFunctions = ").append(this.generateCloneFunctions).append("\n"); //$NON-NLS-1$//$NON-NLS-2$
@@ -360,6 +360,24 @@ public abstract class AbstractSarlBatchCompilerMojo extends AbstractSarlMojo {
 	 */
 	protected abstract boolean getGenerateStorageFiles();
 
+	/** Replies if the incremental compilation is enabled, i.e. only the SARL files that have changed
+	 * since the previous compilation, and the SARL files that depend on them, are compiled.
+	 *
+	 * <p>All the SARL files are still loaded, and their Java stubs are still generated and compiled,
+	 * because they are needed for linking the changed SARL files.
+	 *
+	 * @return {@code true} for enabling the incremental compilation.
+	 * @since 0.15
+	 */
+	protected abstract boolean isIncrementalCompilation();
+
+	/** Replies if the Java stubs are compiled in memory instead of into temporary folders.
+	 *
+	 * @return {@code true} for compiling the stubs in memory.
+	 * @since 0.15
+	 */
+	protected abstract boolean isInMemoryStubCompilation();
+
 	/** Replies if the equality test functions must be generated by the SARL compiler.
 	 *
 	 * @return {@code true} for generating the functions.
@@ -527,6 +545,8 @@ public abstract class AbstractSarlBatchCompilerMojo extends AbstractSarlMojo {
 		compiler.setFileEncoding(getEncoding());
 		compiler.setWriteTraceFiles(getGenerateTraceFiles());
 		compiler.setWriteStorageFiles(getGenerateStorageFiles());
+		compiler.setIncrementalCompilation(isIncrementalCompilation());
+		compiler.setInMemoryStubCompilation(isInMemoryStubCompilation());
 		compiler.setGenerateInlineAnnotation(getGenerateInlines());
 		compiler.setGeneratePureAnnotation(getGeneratePures());
 		compiler.setGenerateEqualityTestFunctions(getGenerateEqualityTestFunctions());
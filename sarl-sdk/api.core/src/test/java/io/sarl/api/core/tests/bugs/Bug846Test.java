@@ -73,6 +73,7 @@ public class Bug846Test extends AbstractSarlTest {
 			"import io.sarl.lang.core.annotation.SarlElementType;",
 			"import io.sarl.lang.core.annotation.SarlSpecification;",
 			"import io.sarl.lang.core.annotation.SyntheticMember;",
+			"import io.sarl.lang.core.util.EventTypeIndex;",
 			"import jakarta.inject.Inject;",
 			"import java.util.Collection;",
 			"import java.util.Set;",
@@ -97,19 +98,19 @@ public class Bug846Test extends AbstractSarlTest {
 			"  }",
 			"  ",
 			"  @SyntheticMember",
+			"  private static final EventTypeIndex $EVENT_TYPE_INDEX = new EventTypeIndex(Initialize.class);",
+			"  ",
+			"  @SyntheticMember",
 			"  @Override",
 			"  public void $getSupportedEvents(final Set<Class<? extends Event>> toBeFilled) {",
 			"    super.$getSupportedEvents(toBeFilled);",
-			"    toBeFilled.add(Initialize.class);",
+			"    toBeFilled.addAll($EVENT_TYPE_INDEX.getEventTypes());",
 			"  }",
 			"  ",
 			"  @SyntheticMember",
 			"  @Override",
-			"  public boolean $isSupportedEvent(final Class<? extends Event> event) {", 
-			"    if (Initialize.class.isAssignableFrom(event)) {",
-			"      return true;",
-			"    }",
-			"    return false;", 
+			"  public boolean $isSupportedEvent(final Class<? extends Event> event) {",
+			"    return $EVENT_TYPE_INDEX.isSupported(event);",
 			"  }",
 			"  ",
 			"  @SyntheticMember",
@@ -118,9 +119,11 @@ public class Bug846Test extends AbstractSarlTest {
 			"    assert eventType != null;",
 			"    assert event != null;",
 			"    super.$evaluateBehaviorGuards(eventType, event, callbacks);",
-			"    if (Initialize.class.equals(eventType)) {",
-			"      final var occurrence = (Initialize) event;",
-			"      $guardEvaluator$Initialize(occurrence, callbacks);",
+			"    switch ($EVENT_TYPE_INDEX.indexOf(eventType)) {",
+			"      case 0 -> {",
+			"        final var occurrence = (Initialize) event;",
+			"        $guardEvaluator$Initialize(occurrence, callbacks);",
+			"      }",
 			"    }",
 			"  }",
 			"  ",
@@ -157,6 +160,7 @@ public class Bug846Test extends AbstractSarlTest {
 			"import io.sarl.lang.core.annotation.SarlElementType;",
 			"import io.sarl.lang.core.annotation.SarlSpecification;",
 			"import io.sarl.lang.core.annotation.SyntheticMember;",
+			"import io.sarl.lang.core.util.EventTypeIndex;",
 			"import jakarta.inject.Inject;",
 			"import java.util.Collection;",
 			"import java.util.Set;",
@@ -182,19 +186,19 @@ public class Bug846Test extends AbstractSarlTest {
 			"  }",
 			"  ",
 			"  @SyntheticMember",
+			"  private static final EventTypeIndex $EVENT_TYPE_INDEX = new EventTypeIndex(Initialize.class);",
+			"  ",
+			"  @SyntheticMember",
 			"  @Override",
 			"  public void $getSupportedEvents(final Set<Class<? extends Event>> toBeFilled) {",
 			"    super.$getSupportedEvents(toBeFilled);",
-			"    toBeFilled.add(Initialize.class);",
+			"    toBeFilled.addAll($EVENT_TYPE_INDEX.getEventTypes());",
 			"  }",
 			"  ",
 			"  @SyntheticMember",
 			"  @Override",
-			"  public boolean $isSupportedEvent(final Class<? extends Event> event) {", 
-			"    if (Initialize.class.isAssignableFrom(event)) {",
-			"      return true;",
-			"    }",
-			"    return false;", 
+			"  public boolean $isSupportedEvent(final Class<? extends Event> event) {",
+			"    return $EVENT_TYPE_INDEX.isSupported(event);",
 			"  }",
 			"  ",
 			"  @SyntheticMember",
@@ -203,9 +207,11 @@ public class Bug846Test extends AbstractSarlTest {
 			"    assert eventType != null;",
 			"    assert event != null;",
 			"    super.$evaluateBehaviorGuards(eventType, event, callbacks);",
-			"    if (Initialize.class.equals(eventType)) {",
-			"      final var occurrence = (Initialize) event;",
-			"      $guardEvaluator$Initialize(occurrence, callbacks);",
+			"    switch ($EVENT_TYPE_INDEX.indexOf(eventType)) {",
+			"      case 0 -> {",
+			"        final var occurrence = (Initialize) event;",
+			"        $guardEvaluator$Initialize(occurrence, callbacks);",
+			"      }",
 			"    }",
 			"  }",
 			"  ",
@@ -242,6 +248,7 @@ public class Bug846Test extends AbstractSarlTest {
 			"import io.sarl.lang.core.annotation.SarlElementType;",
 			"import io.sarl.lang.core.annotation.SarlSpecification;",
 			"import io.sarl.lang.core.annotation.SyntheticMember;",
+			"import io.sarl.lang.core.util.EventTypeIndex;",
 			"import jakarta.inject.Inject;",
 			"import java.util.Collection;",
 			"import java.util.Set;",
@@ -266,19 +273,19 @@ public class Bug846Test extends AbstractSarlTest {
 			"  }",
 			"  ",
 			"  @SyntheticMember",
+			"  private static final EventTypeIndex $EVENT_TYPE_INDEX = new EventTypeIndex(Initialize.class);",
+			"  ",
+			"  @SyntheticMember",
 			"  @Override",
 			"  public void $getSupportedEvents(final Set<Class<? extends Event>> toBeFilled) {",
 			"    super.$getSupportedEvents(toBeFilled);",
-			"    toBeFilled.add(Initialize.class);",
+			"    toBeFilled.addAll($EVENT_TYPE_INDEX.getEventTypes());",
 			"  }",
 			"  ",
 			"  @SyntheticMember",
 			"  @Override",
-			"  public boolean $isSupportedEvent(final Class<? extends Event> event) {", 
-			"    if (Initialize.class.isAssignableFrom(event)) {",
-			"      return true;",
-			"    }",
-			"    return false;", 
+			"  public boolean $isSupportedEvent(final Class<? extends Event> event) {",
+			"    return $EVENT_TYPE_INDEX.isSupported(event);",
 			"  }",
 			"  ",
 			"  @SyntheticMember",
@@ -287,9 +294,11 @@ public class Bug846Test extends AbstractSarlTest {
 			"    assert eventType != null;",
 			"    assert event != null;",
 			"    super.$evaluateBehaviorGuards(eventType, event, callbacks);",
-			"    if (Initialize.class.equals(eventType)) {",
-			"      final var occurrence = (Initialize) event;",
-			"      $guardEvaluator$Initialize(occurrence, callbacks);",
+			"    switch ($EVENT_TYPE_INDEX.indexOf(eventType)) {",
+			"      case 0 -> {",
+			"        final var occurrence = (Initialize) event;",
+			"        $guardEvaluator$Initialize(occurrence, callbacks);",
+			"      }",
 			"    }",
 			"  }",
 			"  ",
@@ -78,6 +78,7 @@ public class Bug847Test extends AbstractSarlTest {
 			"import io.sarl.lang.core.annotation.SarlElementType;",
 			"import io.sarl.lang.core.annotation.SarlSpecification;",
 			"import io.sarl.lang.core.annotation.SyntheticMember;",
+			"import io.sarl.lang.core.util.EventTypeIndex;",
 			"import jakarta.inject.Inject;",
 			"import java.util.Collection;",
 			"import java.util.Set;",
@@ -120,19 +121,19 @@ public class Bug847Test extends AbstractSarlTest {
 			"  }",
 			"",
 			"  @SyntheticMember",
+			"  private static final EventTypeIndex $EVENT_TYPE_INDEX = new EventTypeIndex(AgentSpawned.class);",
+			"",
+			"  @SyntheticMember",
 			"  @Override",
 			"  public void $getSupportedEvents(final Set<Class<? extends Event>> toBeFilled) {",
 			"    super.$getSupportedEvents(toBeFilled);",
-			"    toBeFilled.add(AgentSpawned.class);",
+			"    toBeFilled.addAll($EVENT_TYPE_INDEX.getEventTypes());",
 			"  }",
 			"",
 			"  @SyntheticMember",
 			"  @Override",
-			"  public boolean $isSupportedEvent(final Class<? extends Event> event) {", 
-			"    if (AgentSpawned.class.isAssignableFrom(event)) {",
-			"      return true;",
-			"    }",
-			"    return false;", 
+			"  public boolean $isSupportedEvent(final Class<? extends Event> event) {",
+			"    return $EVENT_TYPE_INDEX.isSupported(event);",
 			"  }",
 			"",
 			"  @SyntheticMember",
@@ -141,9 +142,11 @@ public class Bug847Test extends AbstractSarlTest {
 			"    assert eventType != null;",
 			"    assert event != null;",
 			"    super.$evaluateBehaviorGuards(eventType, event, callbacks);",
-			"    if (AgentSpawned.class.equals(eventType)) {",
-			"      final var occurrence = (AgentSpawned) event;",
-			"      $guardEvaluator$AgentSpawned(occurrence, callbacks);",
+			"    switch ($EVENT_TYPE_INDEX.indexOf(eventType)) {",
+			"      case 0 -> {",
+			"        final var occurrence = (AgentSpawned) event;",
+			"        $guardEvaluator$AgentSpawned(occurrence, callbacks);",
+			"      }",
 			"    }",
 			"  }",
 			"",
@@ -205,6 +208,7 @@ public class Bug847Test extends AbstractSarlTest {
 			"import io.sarl.lang.core.annotation.SarlElementType;",
 			"import io.sarl.lang.core.annotation.SarlSpecification;",
 			"import io.sarl.lang.core.annotation.SyntheticMember;",
+			"import io.sarl.lang.core.util.EventTypeIndex;",
 			"import jakarta.inject.Inject;",
 			"import java.util.Collection;",
 			"import java.util.Set;",
@@ -248,19 +252,19 @@ public class Bug847Test extends AbstractSarlTest {
 			"  }",
 			"",
 			"  @SyntheticMember",
+			"  private static final EventTypeIndex $EVENT_TYPE_INDEX = new EventTypeIndex(AgentSpawned.class);",
+			"",
+			"  @SyntheticMember",
 			"  @Override",
 			"  public void $getSupportedEvents(final Set<Class<? extends Event>> toBeFilled) {",
 			"    super.$getSupportedEvents(toBeFilled);",
-			"    toBeFilled.add(AgentSpawned.class);",
+			"    toBeFilled.addAll($EVENT_TYPE_INDEX.getEventTypes());",
 			"  }",
 			"",
 			"  @SyntheticMember",
 			"  @Override",
-			"  public boolean $isSupportedEvent(final Class<? extends Event> event) {", 
-			"    if (AgentSpawned.class.isAssignableFrom(event)) {",
-			"      return true;",
-			"    }",
-			"    return false;", 
+			"  public boolean $isSupportedEvent(final Class<? extends Event> event) {",
+			"    return $EVENT_TYPE_INDEX.isSupported(event);",
 			"  }",
 			"",
 			"  @SyntheticMember",
@@ -269,9 +273,11 @@ public class Bug847Test extends AbstractSarlTest {
 			"    assert eventType != null;",
 			"    assert event != null;",
 			"    super.$evaluateBehaviorGuards(eventType, event, callbacks);",
-			"    if (AgentSpawned.class.equals(eventType)) {",
-			"      final var occurrence = (AgentSpawned) event;",
-			"      $guardEvaluator$AgentSpawned(occurrence, callbacks);",
+			"    switch ($EVENT_TYPE_INDEX.indexOf(eventType)) {",
+			"      case 0 -> {",
+			"        final var occurrence = (AgentSpawned) event;",
+			"        $guardEvaluator$AgentSpawned(occurrence, callbacks);",
+			"      }",
 			"    }",
 			"  }",
 			"",
@@ -103,6 +103,7 @@ public class Bug861Test extends AbstractSarlTest {
 		"import io.sarl.lang.core.annotation.SarlElementType;",
 		"import io.sarl.lang.core.annotation.SarlSpecification;",
 		"import io.sarl.lang.core.annotation.SyntheticMember;",
+		"import io.sarl.lang.core.util.EventTypeIndex;",
 		"import jakarta.inject.Inject;",
 		"import java.util.Collection;",
 		"import java.util.Set;",
@@ -203,27 +204,19 @@ public class Bug861Test extends AbstractSarlTest {
 		"  }",
 		"",
 		"  @SyntheticMember",
+		"  private static final EventTypeIndex $EVENT_TYPE_INDEX = new EventTypeIndex(Initialize.class, CommitSuicide.class, Initialized.class);",
+		"",
+		"  @SyntheticMember",
 		"  @Override",
 		"  public void $getSupportedEvents(final Set<Class<? extends Event>> toBeFilled) {",
 		"    super.$getSupportedEvents(toBeFilled);",
-		"    toBeFilled.add(Initialize.class);",
-		"    toBeFilled.add(CommitSuicide.class);",
-		"    toBeFilled.add(Initialized.class);",
+		"    toBeFilled.addAll($EVENT_TYPE_INDEX.getEventTypes());",
 		"  }",
 		"",
 		"  @SyntheticMember",
 		"  @Override",
-		"  public boolean $isSupportedEvent(final Class<? extends Event> event) {", 
-		"    if (Initialize.class.isAssignableFrom(event)) {",
-		"      return true;",
-		"    }",
-		"    if (CommitSuicide.class.isAssignableFrom(event)) {",
-		"      return true;",
-		"    }",
-		"    if (Initialized.class.isAssignableFrom(event)) {",
-		"      return true;",
-		"    }",
-		"    return false;", 
+		"  public boolean $isSupportedEvent(final Class<? extends Event> event) {",
+		"    return $EVENT_TYPE_INDEX.isSupported(event);",
 		"  }",
 		"",
 		"  @SyntheticMember",
@@ -232,17 +225,19 @@ public class Bug861Test extends AbstractSarlTest {
 		"    assert eventType != null;",
 		"    assert event != null;",
 		"    super.$evaluateBehaviorGuards(eventType, event, callbacks);",
-		"    if (Initialize.class.equals(eventType)) {",
-		"      final var occurrence = (Initialize) event;",
-		"      $guardEvaluator$Initialize(occurrence, callbacks);",
-		"    }",
-		"    if (CommitSuicide.class.equals(eventType)) {",
-		"      final var occurrence = (CommitSuicide) event;",
-		"      $guardEvaluator$CommitSuicide(occurrence, callbacks);",
-		"    }",
-		"    if (Initialized.class.equals(eventType)) {",
-		"      final var occurrence = (Initialized) event;",
-		"      $guardEvaluator$Initialized(occurrence, callbacks);",
+		"    switch ($EVENT_TYPE_INDEX.indexOf(eventType)) {",
+		"      case 0 -> {",
+		"        final var occurrence = (Initialize) event;",
+		"        $guardEvaluator$Initialize(occurrence, callbacks);",
+		"      }",
+		"      case 1 -> {",
+		"        final var occurrence = (CommitSuicide) event;",
+		"        $guardEvaluator$CommitSuicide(occurrence, callbacks);",
+		"      }",
+		"      case 2 -> {",
+		"        final var occurrence = (Initialized) event;",
+		"        $guardEvaluator$Initialized(occurrence, callbacks);",
+		"      }",
 		"    }",
 		"  }",
 		"",
@@ -390,23 +385,19 @@ public class Bug861Test extends AbstractSarlTest {
 		"  }",
 		"",
 		"  @SyntheticMember",
+		"  private static final EventTypeIndex $EVENT_TYPE_INDEX = new EventTypeIndex(Initialize.class, CommitSuicide.class);",
+		"",
+		"  @SyntheticMember",
 		"  @Override",
 		"  public void $getSupportedEvents(final Set<Class<? extends Event>> toBeFilled) {",
 		"    super.$getSupportedEvents(toBeFilled);",
-		"    toBeFilled.add(Initialize.class);",
-		"    toBeFilled.add(CommitSuicide.class);",
+		"    toBeFilled.addAll($EVENT_TYPE_INDEX.getEventTypes());",
 		"  }",
 		"",
 		"  @SyntheticMember",
 		"  @Override",
-		"  public boolean $isSupportedEvent(final Class<? extends Event> event) {", 
-		"    if (Initialize.class.isAssignableFrom(event)) {",
-		"      return true;",
-		"    }",
-		"    if (CommitSuicide.class.isAssignableFrom(event)) {",
-		"      return true;",
-		"    }",
-		"    return false;", 
+		"  public boolean $isSupportedEvent(final Class<? extends Event> event) {",
+		"    return $EVENT_TYPE_INDEX.isSupported(event);",
 		"  }",
 		"",
 		"  @SyntheticMember",
@@ -415,13 +406,15 @@ public class Bug861Test extends AbstractSarlTest {
 		"    assert eventType != null;",
 		"    assert event != null;",
 		"    super.$evaluateBehaviorGuards(eventType, event, callbacks);",
-		"    if (Initialize.class.equals(eventType)) {",
-		"      final var occurrence = (Initialize) event;",
-		"      $guardEvaluator$Initialize(occurrence, callbacks);",
-		"    }",
-		"    if (CommitSuicide.class.equals(eventType)) {",
-		"      final var occurrence = (CommitSuicide) event;",
-		"      $guardEvaluator$CommitSuicide(occurrence, callbacks);",
+		"    switch ($EVENT_TYPE_INDEX.indexOf(eventType)) {",
+		"      case 0 -> {",
+		"        final var occurrence = (Initialize) event;",
+		"        $guardEvaluator$Initialize(occurrence, callbacks);",
+		"      }",
+		"      case 1 -> {",
+		"        final var occurrence = (CommitSuicide) event;",
+		"        $guardEvaluator$CommitSuicide(occurrence, callbacks);",
+		"      }",
 		"    }",
 		"  }",
 		"",
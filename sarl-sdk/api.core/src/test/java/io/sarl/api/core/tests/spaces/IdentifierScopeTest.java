@@ -0,0 +1,111 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2025 SARL.io, the Original Authors and Main Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sarl.api.core.tests.spaces;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import io.sarl.api.core.spaces.IdentifierScope;
+import io.sarl.api.core.spaces.OpenEventSpaceSpecification;
+import io.sarl.lang.core.Address;
+import io.sarl.lang.core.SpaceID;
+import io.sarl.lang.tests.api.extensions.JavaVersionCheckExtension;
+import io.sarl.tests.api.extensions.ContextInitExtension;
+import io.sarl.tests.api.extensions.PropertyRestoreExtension;
+
+/** 
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ */
+@ExtendWith({
+	ContextInitExtension.class,
+	JavaVersionCheckExtension.class,
+	PropertyRestoreExtension.class
+})
+@DisplayName("IdentifierScope")
+@Tag("unit")
+@Tag("api")
+@SuppressWarnings("all")
+public class IdentifierScopeTest {
+
+	private SpaceID spaceId;
+
+	private UUID id1;
+
+	private UUID id2;
+
+	private UUID id3;
+
+	@BeforeEach
+	public void setUp() {
+		this.spaceId = new SpaceID(UUID.randomUUID(), UUID.randomUUID(), OpenEventSpaceSpecification.class);
+		this.id1 = UUID.randomUUID();
+		this.id2 = UUID.randomUUID();
+		this.id3 = UUID.randomUUID();
+	}
+
+	@Test
+	@DisplayName("getIdentifiers with one identifier")
+	public void getIdentifiers_single() {
+		var scope = new IdentifierScope(this.id1);
+		assertEquals(1, scope.getIdentifiers().size());
+		assertTrue(scope.getIdentifiers().contains(this.id1));
+	}
+
+	@Test
+	@DisplayName("getIdentifiers with two identifiers")
+	public void getIdentifiers_multiple() {
+		var scope = new IdentifierScope(Arrays.asList(this.id1, this.id2, this.id1));
+		assertEquals(2, scope.getIdentifiers().size());
+		assertTrue(scope.getIdentifiers().contains(this.id1));
+		assertTrue(scope.getIdentifiers().contains(this.id2));
+	}
+
+	@Test
+	@DisplayName("getIdentifiers is read-only")
+	public void getIdentifiers_readOnly() {
+		var scope = new IdentifierScope(this.id1, this.id2);
+		assertThrows(UnsupportedOperationException.class, () -> {
+			scope.getIdentifiers().add(this.id3);
+		});
+	}
+
+	@Test
+	@DisplayName("matches")
+	public void matches() {
+		var scope = new IdentifierScope(this.id1, this.id2);
+		assertTrue(scope.matches(new Address(this.spaceId, this.id1)));
+		assertTrue(scope.matches(new Address(this.spaceId, this.id2)));
+		assertFalse(scope.matches(new Address(this.spaceId, this.id3)));
+	}
+
+}
@@ -24,23 +24,30 @@ package io.sarl.api.core.tests.spaces;
 import static io.sarl.tests.api.tools.TestAssertions.assertContains;
 import static io.sarl.tests.api.tools.TestAssertions.assertContainsCollection;
 import static io.sarl.tests.api.tools.TestMockito.mock;
+import static io.sarl.tests.api.tools.TestMockito.spy;
 import static io.sarl.tests.api.tools.TestReflections.invokeProc;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 import static org.mockito.MockitoAnnotations.openMocks;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 
+import org.eclipse.xtext.xbase.lib.Procedures.Procedure1;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.RepeatedTest;
@@ -50,6 +57,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 
 import io.sarl.api.core.spaces.AbstractEventSpace;
+import io.sarl.api.core.spaces.IdentifierScope;
 import io.sarl.api.core.spaces.OpenEventSpaceSpecification;
 import io.sarl.api.core.spaces.Participant;
 import io.sarl.api.core.tests.spaces.mocks.XAbstractEventSpaceMock;
@@ -265,6 +273,162 @@ public class XAbstractEventSpaceTest {
 		verifyNoMoreInteractions(this.listener2);
 	}
 
+	@Test
+	@DisplayName("emitLocally(e) [IdentifierScope(i)]")
+	public void emitLocally_identifierScope() throws Exception {
+		var event = mock(Event.class);
+		when(event.getSource()).thenReturn(this.address);
+		emitLocally(event, new IdentifierScope(this.agentId));
+		verifyNoMoreInteractions(this.listener1);
+		verifyNoMoreInteractions(this.listener2);
+
+		register();
+
+		event = mock(Event.class);
+		when(event.getSource()).thenReturn(this.address);
+		emitLocally(event, new IdentifierScope(this.agentId, UUID.randomUUID()));
+
+		var argument = ArgumentCaptor.forClass(Event.class);
+
+		verify(this.listener1).receiveEvent(argument.capture());
+		assertSame(event, argument.getValue());
+		verifyNoMoreInteractions(this.listener2);
+	}
+
+	@Test
+	@DisplayName("emitLocally(e) [overridden forEachScopedParticipant]")
+	public void emitLocally_overriddenScopedParticipants() throws Exception {
+		register();
+		var spiedSpace = spy(this.space);
+		var participant = this.strongParticipants.get(this.agentId2);
+		doAnswer(it -> {
+			((Procedure1<Participant>) it.getArgument(1)).apply(participant);
+			return null;
+		}).when(spiedSpace).forEachScopedParticipant(any(), any());
+
+		var event = mock(Event.class);
+		when(event.getSource()).thenReturn(this.address);
+		invokeProc(spiedSpace.getClass(), spiedSpace, "emitLocally", new Class[] {Event.class, Scope.class}, event, null);
+
+		var argument = ArgumentCaptor.forClass(Event.class);
+
+		verify(this.listener2).receiveEvent(argument.capture());
+		assertSame(event, argument.getValue());
+		verifyNoMoreInteractions(this.listener1);
+	}
+
+	private void emitLocally(List<Event> events, Scope<Address> scope) throws Exception {
+		invokeProc(this.space.getClass(), this.space, "emitLocally", new Class[] {List.class, Scope.class}, events, scope);
+	}
+
+	@Test
+	@DisplayName("emitLocally([e], null)")
+	public void emitLocallyList_nullScope() throws Exception {
+		var event1 = mock(Event.class);
+		when(event1.getSource()).thenReturn(this.address);
+		var event2 = mock(Event.class);
+		when(event2.getSource()).thenReturn(this.address);
+		emitLocally(Arrays.asList(event1, event2), null);
+		verifyNoMoreInteractions(this.listener1);
+		verifyNoMoreInteractions(this.listener2);
+
+		register();
+
+		emitLocally(Arrays.asList(event1, event2), null);
+
+		var argument = ArgumentCaptor.forClass(Collection.class);
+
+		verify(this.listener1).receiveEvents(argument.capture());
+		assertContains(argument.getValue(), event1, event2);
+
+		verify(this.listener2).receiveEvents(argument.capture());
+		assertContains(argument.getValue(), event1, event2);
+	}
+
+	@Test
+	@DisplayName("emitLocally([e]) [it.ID == i]")
+	public void emitLocallyList_singleAddress() throws Exception {
+		register();
+
+		var event1 = mock(Event.class);
+		when(event1.getSource()).thenReturn(this.address);
+		var event2 = mock(Event.class);
+		when(event2.getSource()).thenReturn(this.address);
+		emitLocally(Arrays.asList(event1, event2), it -> this.address.equals(it));
+
+		var argument = ArgumentCaptor.forClass(Collection.class);
+
+		verify(this.listener1).receiveEvents(argument.capture());
+		assertContains(argument.getValue(), event1, event2);
+		verifyNoMoreInteractions(this.listener2);
+	}
+
+	@Test
+	@DisplayName("emitLocally([e]) [IdentifierScope(i)]")
+	public void emitLocallyList_identifierScope() throws Exception {
+		register();
+
+		var event1 = mock(Event.class);
+		when(event1.getSource()).thenReturn(this.address);
+		var event2 = mock(Event.class);
+		when(event2.getSource()).thenReturn(this.address);
+		emitLocally(Arrays.asList(event1, event2), new IdentifierScope(this.agentId2, UUID.randomUUID()));
+
+		var argument = ArgumentCaptor.forClass(Collection.class);
+
+		verify(this.listener2).receiveEvents(argument.capture());
+		assertContains(argument.getValue(), event1, event2);
+		verifyNoMoreInteractions(this.listener1);
+	}
+
+	@Test
+	@DisplayName("emitLocally([e]) [overridden forEachScopedParticipant]")
+	public void emitLocallyList_overriddenScopedParticipants() throws Exception {
+		register();
+		var spiedSpace = spy(this.space);
+		var participant = this.strongParticipants.get(this.agentId);
+		doAnswer(it -> {
+			((Procedure1<Participant>) it.getArgument(1)).apply(participant);
+			return null;
+		}).when(spiedSpace).forEachScopedParticipant(any(), any());
+
+		var event1 = mock(Event.class);
+		when(event1.getSource()).thenReturn(this.address);
+		invokeProc(spiedSpace.getClass(), spiedSpace, "emitLocally", new Class[] {List.class, Scope.class},
+				Arrays.asList(event1), new IdentifierScope(this.agentId2));
+
+		var argument = ArgumentCaptor.forClass(Collection.class);
+
+		verify(this.listener1).receiveEvents(argument.capture());
+		assertContains(argument.getValue(), event1);
+		verifyNoMoreInteractions(this.listener2);
+	}
+
+	@Test
+	@DisplayName("getScopedParticipants(IdentifierScope(i))")
+	public void getScopedParticipants_identifierScope() throws Exception {
+		var weaks = register(2);
+		var weak = weaks.iterator().next();
+		var participants = this.space.getScopedParticipants(new IdentifierScope(this.agentId2, weak));
+		assertEquals(2, participants.size());
+		assertContains(participants, this.strongParticipants.get(this.agentId2), this.weakParticipants.get(weak));
+	}
+
+	@Test
+	@DisplayName("getScopedParticipants [overridden forEachScopedParticipant]")
+	public void getScopedParticipants_overriddenForEach() throws Exception {
+		register();
+		var spiedSpace = spy(this.space);
+		var participant = this.strongParticipants.get(this.agentId2);
+		doAnswer(it -> {
+			((Procedure1<Participant>) it.getArgument(1)).apply(participant);
+			return null;
+		}).when(spiedSpace).forEachScopedParticipant(any(), any());
+		var participants = spiedSpace.getScopedParticipants(null);
+		assertEquals(1, participants.size());
+		assertSame(participant, participants.getFirst());
+	}
+
 	@Test
 	@DisplayName("emit(e, null)")
 	public void emit_nullScope() {
@@ -335,6 +499,44 @@ public class XAbstractEventSpaceTest {
 		verifyNoMoreInteractions(this.listener2);
 	}
 
+	@Test
+	@DisplayName("emitAll(e, null)")
+	public void emitAll_nullScope() {
+		register();
+
+		var event1 = mock(Event.class);
+		when(event1.getSource()).thenReturn(this.address);
+		var event2 = mock(Event.class);
+		when(event2.getSource()).thenReturn(this.address);
+		this.space.emitAll(null, Arrays.asList(event1, event2), null);
+
+		var argument = ArgumentCaptor.forClass(Collection.class);
+
+		verify(this.listener1).receiveEvents(argument.capture());
+		assertContains(argument.getValue(), event1, event2);
+
+		verify(this.listener2).receiveEvents(argument.capture());
+		assertContains(argument.getValue(), event1, event2);
+	}
+
+	@Test
+	@DisplayName("emitAll(e, IdentifierScope)")
+	public void emitAll_identifierScope() {
+		register();
+
+		var event1 = mock(Event.class);
+		when(event1.getSource()).thenReturn(this.address);
+		var event2 = mock(Event.class);
+		when(event2.getSource()).thenReturn(this.address);
+		this.space.emitAll(null, Arrays.asList(event1, event2), new IdentifierScope(this.agentId));
+
+		var argument = ArgumentCaptor.forClass(Collection.class);
+
+		verify(this.listener1).receiveEvents(argument.capture());
+		assertContains(argument.getValue(), event1, event2);
+		verifyNoMoreInteractions(this.listener2);
+	}
+
 	@Test
 	@DisplayName("getNumberOfStrongParticipants without participant")
 	public void getNumberOfStrongParticipants_registration0() {
@@ -0,0 +1,165 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2025 SARL.io, the Original Authors and Main Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sarl.sre.janus.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BooleanSupplier;
+
+import org.arakhne.afc.bootique.variables.VariableNames;
+
+import io.sarl.api.util.SequenceListenerNotifier;
+import io.sarl.api.util.SmartListenerCollection;
+import io.sarl.lang.core.AgentContext;
+import io.sarl.lang.core.util.DefaultConcurrentCollectionFactory;
+import io.sarl.sre.janus.benchmarks.fixtures.BenchmarkFixtures;
+import io.sarl.sre.janus.benchmarks.fixtures.ListenerAgent;
+import io.sarl.sre.janus.boot.SreMain;
+import io.sarl.sre.janus.boot.configs.subconfigs.EventBusType;
+import io.sarl.sre.janus.boot.configs.subconfigs.LifecycleConfig;
+import io.sarl.sre.janus.internal.Factories;
+
+/**
+ * Janus kernel that is launched for running a benchmark.
+ *
+ * <p>The kernel is populated with {@link ListenerAgent listener agents} that are keeping
+ * it alive, and that are receiving the benchmarked events.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.15
+ */
+public final class BenchmarkKernel implements AutoCloseable {
+
+	/** Maximal duration of the waiting loops, in milliseconds.
+	 */
+	public static final int TIMEOUT = 60000;
+
+	private final SreMain bootstrap;
+
+	private final AgentContext rootContext;
+
+	private final List<ListenerAgent> listeners;
+
+	private BenchmarkKernel(SreMain bootstrap, AgentContext rootContext, List<ListenerAgent> listeners) {
+		this.bootstrap = bootstrap;
+		this.rootContext = rootContext;
+		this.listeners = Collections.unmodifiableList(listeners);
+	}
+
+	/** Start a kernel and wait for the initialization of its listener agents.
+	 *
+	 * @param eventBusType the type of event bus to be used by the agents.
+	 * @param nbListeners the number of listener agents to spawn.
+	 * @return the kernel.
+	 * @throws Exception if the kernel cannot be started.
+	 */
+	public static BenchmarkKernel start(EventBusType eventBusType, int nbListeners) throws Exception {
+		System.setProperty(VariableNames.toPropertyName(LifecycleConfig.EVENT_BUS_TYPE_NAME), eventBusType.toJsonString());
+		BenchmarkFixtures.reset();
+		final var bootstrap = new SreMain();
+		final var context = bootstrap.startWithoutAgent();
+		bootstrap.setVerboseLevel(0);
+		bootstrap.startAgent(nbListeners, ListenerAgent.class);
+		if (!waitFor(() -> BenchmarkFixtures.LISTENERS.size() >= nbListeners)) {
+			bootstrap.shutdown(TIMEOUT);
+			throw new IllegalStateException("The listener agents were not initialized in time"); //$NON-NLS-1$
+		}
+		return new BenchmarkKernel(bootstrap, context, new ArrayList<>(BenchmarkFixtures.LISTENERS));
+	}
+
+	/** Create the factories of concurrent tools that are used by the kernel's components.
+	 *
+	 * @return the factories.
+	 */
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	public static Factories newFactories() {
+		return new Factories(
+				DefaultConcurrentCollectionFactory::new,
+				ReentrantReadWriteLock::new,
+				ReentrantLock::new,
+				() -> new SmartListenerCollection(new SequenceListenerNotifier()));
+	}
+
+	/** Wait for the given condition to be true.
+	 *
+	 * @param condition the condition to wait for.
+	 * @return {@code true} if the condition is true; {@code false} if the waiting has timed out.
+	 * @see #TIMEOUT
+	 */
+	public static boolean waitFor(BooleanSupplier condition) {
+		final var deadline = System.currentTimeMillis() + TIMEOUT;
+		while (!condition.getAsBoolean()) {
+			if (System.currentTimeMillis() >= deadline) {
+				return false;
+			}
+			LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(100));
+		}
+		return true;
+	}
+
+	/** Wait for the given number of events to be handled by the listener agents since the kernel's start.
+	 *
+	 * @param expectedEvents the number of events to wait for.
+	 * @return {@code true} if the events were handled; {@code false} if the waiting has timed out.
+	 */
+	public static boolean waitForHandledEvents(long expectedEvents) {
+		return waitFor(() -> BenchmarkFixtures.HANDLED_EVENTS.get() >= expectedEvents);
+	}
+
+	/** Replies the bootstrap of the kernel.
+	 *
+	 * @return the bootstrap.
+	 */
+	public SreMain getBootstrap() {
+		return this.bootstrap;
+	}
+
+	/** Replies the root context of the kernel.
+	 *
+	 * @return the root context.
+	 */
+	public AgentContext getRootContext() {
+		return this.rootContext;
+	}
+
+	/** Replies the listener agents.
+	 *
+	 * @return the unmodifiable list of the listener agents.
+	 */
+	public List<ListenerAgent> getListeners() {
+		return this.listeners;
+	}
+
+	@Override
+	public void close() throws InterruptedException {
+		this.bootstrap.shutdown(TIMEOUT);
+	}
+
+}
@@ -0,0 +1,72 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2025 SARL.io, the Original Authors and Main Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sarl.sre.janus.benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Launcher of the Janus benchmarks.
+ *
+ * <p>The command-line arguments are the standard JMH arguments. When they are not
+ * specified, all the Janus benchmarks are run, and the results are written in JSON
+ * format into the file {@value #DEFAULT_RESULT_FILE}.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.15
+ */
+public final class BenchmarkRunner {
+
+	/** Name of the file in which the results are written by default.
+	 */
+	public static final String DEFAULT_RESULT_FILE = "janus-benchmarks.json"; //$NON-NLS-1$
+
+	private BenchmarkRunner() {
+		//
+	}
+
+	/** Run the benchmarks.
+	 *
+	 * @param args the JMH command-line arguments.
+	 * @throws Exception if the benchmarks cannot be run.
+	 */
+	public static void main(String[] args) throws Exception {
+		final var cli = new CommandLineOptions(args);
+		final var options = new OptionsBuilder().parent(cli);
+		if (cli.getIncludes().isEmpty()) {
+			options.include(BenchmarkRunner.class.getPackageName() + ".*Benchmark"); //$NON-NLS-1$
+		}
+		if (!cli.getResultFormat().hasValue()) {
+			options.resultFormat(ResultFormatType.JSON);
+		}
+		if (!cli.getResult().hasValue()) {
+			options.result(DEFAULT_RESULT_FILE);
+		}
+		new Runner(options.build()).run();
+	}
+
+}
@@ -0,0 +1,141 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2025 SARL.io, the Original Authors and Main Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sarl.sre.janus.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.sarl.sre.janus.benchmarks.fixtures.BenchmarkEvent;
+import io.sarl.sre.janus.boot.configs.subconfigs.EventBusType;
+import io.sarl.sre.janus.skills.internal.EventBus;
+import io.sarl.sre.janus.skills.internal.EventBusFactory;
+import io.sarl.sre.janus.skills.internal.PolymorphicEventBusFactory;
+import io.sarl.sre.janus.skills.internal.ReflectEventBusFactory;
+
+/**
+ * Benchmark of the dispatching of the events by the {@link EventBus}, for the polymorphic
+ * and the reflect implementations of the event bus.
+ *
+ * <p>The listeners of the event bus are {@link io.sarl.sre.janus.benchmarks.fixtures.ListenerAgent listener agents}
+ * that are running into a kernel. The event handlers are run by the scheduling skill of the first listener agent.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.15
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 2, jvmArgsAppend = { "-Xms1g", "-Xmx1g" })
+public class EventBusBenchmark {
+
+	/** Type of the event bus.
+	 */
+	@Param({ "POLYMORPHIC", "REFLECT" })
+	public EventBusType busType;
+
+	/** Number of listeners that are registered into the event bus.
+	 */
+	@Param({ "1", "10", "100" })
+	public int listeners;
+
+	private BenchmarkKernel kernel;
+
+	private EventBus eventBus;
+
+	private long dispatchedEvents;
+
+	/** Start the kernel and create the event bus.
+	 *
+	 * @throws Exception if the kernel cannot be started.
+	 */
+	@Setup(Level.Trial)
+	public void setUp() throws Exception {
+		this.kernel = BenchmarkKernel.start(this.busType, this.listeners);
+		this.dispatchedEvents = 0;
+		final var factories = BenchmarkKernel.newFactories();
+		final EventBusFactory busFactory;
+		if (this.busType == EventBusType.REFLECT) {
+			busFactory = new ReflectEventBusFactory(() -> factories);
+		} else {
+			busFactory = new PolymorphicEventBusFactory(() -> factories);
+		}
+		final var schedules = this.kernel.getListeners().get(0).getInternalSchedules();
+		this.eventBus = busFactory.createEventBus(() -> schedules);
+		for (final var listener : this.kernel.getListeners()) {
+			this.eventBus.register(listener, null, null);
+		}
+	}
+
+	/** Wait for the end of the asynchronous dispatching of the events, in order to avoid
+	 * the measurement of an iteration to be impacted by the events of the previous iteration.
+	 */
+	@TearDown(Level.Iteration)
+	public void waitForDispatching() {
+		if (!BenchmarkKernel.waitForHandledEvents(this.dispatchedEvents * this.listeners)) {
+			throw new IllegalStateException("The dispatched events were not handled in time"); //$NON-NLS-1$
+		}
+	}
+
+	/** Stop the kernel.
+	 *
+	 * @throws Exception if the kernel cannot be stopped.
+	 */
+	@TearDown(Level.Trial)
+	public void tearDown() throws Exception {
+		this.kernel.close();
+	}
+
+	/** Dispatch an event to all the listeners, and wait for the end of the event handlers.
+	 */
+	@Benchmark
+	public void immediateDispatch() {
+		this.eventBus.immediateDispatch(new BenchmarkEvent(), true);
+		++this.dispatchedEvents;
+	}
+
+	/** Dispatch an event to all the listeners asynchronously.
+	 */
+	@Benchmark
+	public void asyncDispatch() {
+		this.eventBus.asyncDispatch(new BenchmarkEvent());
+		++this.dispatchedEvents;
+	}
+
+}
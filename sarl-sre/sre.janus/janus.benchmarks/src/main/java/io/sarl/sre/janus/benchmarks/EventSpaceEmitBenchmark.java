@@ -0,0 +1,168 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2025 SARL.io, the Original Authors and Main Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sarl.sre.janus.benchmarks;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.sarl.api.core.spaces.IdentifierScope;
+import io.sarl.lang.core.Address;
+import io.sarl.lang.core.EventSpace;
+import io.sarl.lang.core.Scope;
+import io.sarl.sre.janus.benchmarks.fixtures.BenchmarkEvent;
+import io.sarl.sre.janus.boot.configs.subconfigs.EventBusType;
+
+/**
+ * Benchmark of the emission of the events into the default space of the root context.
+ *
+ * <p>The participants of the space are {@link io.sarl.sre.janus.benchmarks.fixtures.ListenerAgent listener agents}.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.15
+ */
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 2, jvmArgsAppend = { "-Xms1g", "-Xmx1g" })
+public class EventSpaceEmitBenchmark {
+
+	/** Number of participants into the space.
+	 */
+	@Param({ "1", "10", "100" })
+	public int participants;
+
+	/** Type of the scope that is given to the emit function.
+	 */
+	@Param({ "ALL", "PREDICATE", "IDENTIFIERS" })
+	public ScopeType scopeType;
+
+	private BenchmarkKernel kernel;
+
+	private EventSpace space;
+
+	private UUID source;
+
+	private Scope<Address> scope;
+
+	private int receiversPerEvent;
+
+	private long emittedEvents;
+
+	/** Start the kernel and build the scope.
+	 *
+	 * @throws Exception if the kernel cannot be started.
+	 */
+	@Setup(Level.Trial)
+	public void setUp() throws Exception {
+		this.kernel = BenchmarkKernel.start(EventBusType.getDefault(), this.participants);
+		this.emittedEvents = 0;
+		this.space = this.kernel.getRootContext().getDefaultSpace();
+		this.source = UUID.randomUUID();
+		final var receiver = this.kernel.getListeners().get(0).getID();
+		switch (this.scopeType) {
+		case PREDICATE:
+			this.scope = it -> receiver.equals(it.getID());
+			this.receiversPerEvent = 1;
+			break;
+		case IDENTIFIERS:
+			this.scope = new IdentifierScope(receiver);
+			this.receiversPerEvent = 1;
+			break;
+		case ALL:
+		default:
+			this.scope = null;
+			this.receiversPerEvent = this.participants;
+			break;
+		}
+	}
+
+	/** Wait for the end of the handling of the emitted events, in order to avoid
+	 * the measurement of an iteration to be impacted by the events of the previous iteration.
+	 */
+	@TearDown(Level.Iteration)
+	public void waitForHandling() {
+		if (!BenchmarkKernel.waitForHandledEvents(this.emittedEvents * this.receiversPerEvent)) {
+			throw new IllegalStateException("The emitted events were not handled in time"); //$NON-NLS-1$
+		}
+	}
+
+	/** Stop the kernel.
+	 *
+	 * @throws Exception if the kernel cannot be stopped.
+	 */
+	@TearDown(Level.Trial)
+	public void tearDown() throws Exception {
+		this.kernel.close();
+	}
+
+	/** Emit an event into the space.
+	 */
+	@Benchmark
+	public void emit() {
+		this.space.emit(this.source, new BenchmarkEvent(), this.scope);
+		++this.emittedEvents;
+	}
+
+	/**
+	 * Type of the scope that is given to the emit function.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 0.15
+	 */
+	public enum ScopeType {
+
+		/** No scope, i.e. all the participants receive the event.
+		 */
+		ALL,
+
+		/** Scope that is a predicate on the addresses of the participants, and that matches a single participant.
+		 */
+		PREDICATE,
+
+		/** Scope that explicitly lists the identifier of a single participant.
+		 */
+		IDENTIFIERS;
+
+	}
+
+}
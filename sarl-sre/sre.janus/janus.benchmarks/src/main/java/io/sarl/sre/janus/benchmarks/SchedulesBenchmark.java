@@ -0,0 +1,125 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2025 SARL.io, the Original Authors and Main Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sarl.sre.janus.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.xtext.xbase.lib.Procedures.Procedure1;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.sarl.lang.core.Agent;
+import io.sarl.sre.janus.boot.configs.subconfigs.EventBusType;
+import io.sarl.sre.janus.capacities.InternalSchedules;
+
+/**
+ * Benchmark of the scheduling of the agent tasks by the {@code SchedulesSkill}.
+ *
+ * <p>The tasks are scheduled by the skill of a {@link io.sarl.sre.janus.benchmarks.fixtures.ListenerAgent listener agent}.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.15
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 2, jvmArgsAppend = { "-Xms1g", "-Xmx1g" })
+public class SchedulesBenchmark {
+
+	/** Delay in milliseconds of the delayed tasks. It is long enough for the tasks to be cancelled before they run.
+	 */
+	private static final long DELAY = 60000;
+
+	private final AtomicLong runTasks = new AtomicLong();
+
+	private final Procedure1<Agent> task = it -> this.runTasks.incrementAndGet();
+
+	private BenchmarkKernel kernel;
+
+	private InternalSchedules schedules;
+
+	private long submittedTasks;
+
+	/** Start the kernel.
+	 *
+	 * @throws Exception if the kernel cannot be started.
+	 */
+	@Setup(Level.Trial)
+	public void setUp() throws Exception {
+		this.kernel = BenchmarkKernel.start(EventBusType.getDefault(), 1);
+		this.schedules = this.kernel.getListeners().get(0).getInternalSchedules();
+		this.runTasks.set(0);
+		this.submittedTasks = 0;
+	}
+
+	/** Wait for the end of the submitted tasks, in order to avoid
+	 * the measurement of an iteration to be impacted by the tasks of the previous iteration.
+	 */
+	@TearDown(Level.Iteration)
+	public void waitForTasks() {
+		if (!BenchmarkKernel.waitFor(() -> this.runTasks.get() >= this.submittedTasks)) {
+			throw new IllegalStateException("The submitted tasks were not run in time"); //$NON-NLS-1$
+		}
+	}
+
+	/** Stop the kernel.
+	 *
+	 * @throws Exception if the kernel cannot be stopped.
+	 */
+	@TearDown(Level.Trial)
+	public void tearDown() throws Exception {
+		this.kernel.close();
+	}
+
+	/** Submit a task to be run as soon as possible.
+	 */
+	@Benchmark
+	public void execute() {
+		this.schedules.execute(this.task);
+		++this.submittedTasks;
+	}
+
+	/** Submit a delayed task, and cancel it.
+	 */
+	@Benchmark
+	public void inAndCancel() {
+		final var agentTask = this.schedules.in(DELAY, this.task);
+		this.schedules.cancel(agentTask);
+	}
+
+}
@@ -0,0 +1,113 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2025 SARL.io, the Original Authors and Main Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sarl.sre.janus.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.sarl.sre.janus.benchmarks.fixtures.BenchmarkFixtures;
+import io.sarl.sre.janus.benchmarks.fixtures.SpawnedAgent;
+import io.sarl.sre.janus.boot.configs.subconfigs.EventBusType;
+
+/**
+ * Benchmark of the spawning of agents into the root context.
+ *
+ * <p>The spawned agents are {@link SpawnedAgent agents} that are killing themselves when they are
+ * initialized. A {@link io.sarl.sre.janus.benchmarks.fixtures.ListenerAgent listener agent} is keeping
+ * the kernel alive.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.15
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 2, jvmArgsAppend = { "-Xms1g", "-Xmx1g" })
+public class SpawnBenchmark {
+
+	/** Number of agents that are spawned by a single call to the spawn function.
+	 */
+	@Param({ "1", "10", "100" })
+	public int agents;
+
+	private BenchmarkKernel kernel;
+
+	private long spawnedAgents;
+
+	/** Start the kernel.
+	 *
+	 * @throws Exception if the kernel cannot be started.
+	 */
+	@Setup(Level.Trial)
+	public void setUp() throws Exception {
+		this.kernel = BenchmarkKernel.start(EventBusType.getDefault(), 1);
+		this.spawnedAgents = 0;
+	}
+
+	/** Wait for the end of the initialization of the spawned agents, in order to avoid
+	 * the measurement of an iteration to be impacted by the agents of the previous iteration.
+	 */
+	@TearDown(Level.Iteration)
+	public void waitForSpawning() {
+		if (!BenchmarkKernel.waitFor(() -> BenchmarkFixtures.SPAWNED_AGENTS.get() >= this.spawnedAgents)) {
+			throw new IllegalStateException("The agents were not spawned in time"); //$NON-NLS-1$
+		}
+	}
+
+	/** Stop the kernel.
+	 *
+	 * @throws Exception if the kernel cannot be stopped.
+	 */
+	@TearDown(Level.Trial)
+	public void tearDown() throws Exception {
+		this.kernel.close();
+	}
+
+	/** Spawn agents into the root context.
+	 *
+	 * @throws Exception if the agents cannot be spawned.
+	 */
+	@Benchmark
+	public void spawn() throws Exception {
+		this.kernel.getBootstrap().startAgent(this.agents, SpawnedAgent.class);
+		this.spawnedAgents += this.agents;
+	}
+
+}